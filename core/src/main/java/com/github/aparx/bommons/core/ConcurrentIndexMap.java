@@ -0,0 +1,362 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Thread-safe variant of {@link IndexMap}, supporting full concurrency of retrievals and
+ * updates.
+ * <p>Values are stored in an {@link AtomicReferenceArray}. Retrievals never lock, and all
+ * updates are single compare-and-set operations on the affected slot. Only growing the table is
+ * serialized among resizing threads: a resize copies each slot into the new table and
+ * atomically replaces the old slot with a forwarding marker. Readers and writers that encounter
+ * such a marker simply continue on the new table, thus a resize never blocks them.
+ * <p>Like {@link java.util.concurrent.ConcurrentHashMap}, this map does not permit null values,
+ * and iterators are weakly consistent: they never throw
+ * {@link ConcurrentModificationException}, traverse each index at most once and may, but are
+ * not guaranteed to, reflect modifications made after their construction.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 12:40
+ * @see IndexMap
+ * @since 1.0
+ */
+public class ConcurrentIndexMap<E> implements Iterable<IndexMap.Entry<E>> {
+
+  private final Object resizeLock = new Object();
+
+  private final LongAdder elementCount = new LongAdder();
+
+  private volatile AtomicReferenceArray<Object> table;
+
+  public ConcurrentIndexMap() {
+    this(IndexMap.DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentIndexMap(int initialCapacity) {
+    this.table = new AtomicReferenceArray<>(Math.max(initialCapacity, 0));
+  }
+
+  public ConcurrentIndexMap(@NonNull Map<Integer, ? extends E> map) {
+    this(map.size());
+    map.forEach((index, value) -> put(Objects.requireNonNull(index), value));
+  }
+
+  public @NonNegative int capacity() {
+    return table.length();
+  }
+
+  /**
+   * Returns the amount of elements in this map. The returned value is only a snapshot, that is
+   * not necessarily accurate while concurrent updates are in progress.
+   */
+  public @NonNegative int size() {
+    return Math.max((int) elementCount.sum(), 0);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Removes all elements. Elements put concurrently while clearing may or may not be removed.
+   * The capacity is retained.
+   */
+  public void clear() {
+    for (int i = 0, len = capacity(); i < len; ++i)
+      remove(i);
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > capacity())
+      grow(capacity);
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable E get(int index) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    AtomicReferenceArray<Object> tab = table;
+    if (index >= tab.length())
+      return null;
+    Object value;
+    while ((value = tab.get(index)) instanceof Forward)
+      tab = ((Forward) value).table;
+    return (E) value;
+  }
+
+  public @Nullable E getOrDefault(int index, @Nullable E defaultValue) {
+    E value = get(index);
+    return (value != null ? value : defaultValue);
+  }
+
+  public boolean containsKey(int index) {
+    return index >= 0 && get(index) != null;
+  }
+
+  public boolean containsValue(@NonNull Object value) {
+    return indexOf(value) != IndexBits.NO_INDEX;
+  }
+
+  public boolean contains(int index, @NonNull Object value) {
+    return index >= 0 && value.equals(get(index));
+  }
+
+  @CheckReturnValue
+  public int indexOf(@NonNull Object value) {
+    Preconditions.checkNotNull(value, "Value must not be null");
+    for (int i = 0, len = capacity(); i < len; ++i)
+      if (value.equals(get(i))) return i;
+    return IndexBits.NO_INDEX;
+  }
+
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E put(int index, @NonNull E value) {
+    Preconditions.checkNotNull(value, "Value must not be null");
+    AtomicReferenceArray<Object> tab = tableFor(index);
+    for (;;) {
+      Object current = tab.get(index);
+      if (current instanceof Forward)
+        tab = ((Forward) current).table;
+      else if (tab.compareAndSet(index, current, value)) {
+        if (current == null) elementCount.increment();
+        return (E) current;
+      }
+    }
+  }
+
+  /**
+   * Associates {@code value} to {@code index}, if the index is not occupied yet.
+   *
+   * @return the current value, or null if {@code value} has been put
+   */
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E putIfAbsent(int index, @NonNull E value) {
+    Preconditions.checkNotNull(value, "Value must not be null");
+    AtomicReferenceArray<Object> tab = tableFor(index);
+    for (;;) {
+      Object current = tab.get(index);
+      if (current instanceof Forward)
+        tab = ((Forward) current).table;
+      else if (current != null)
+        return (E) current;
+      else if (tab.compareAndSet(index, null, value)) {
+        elementCount.increment();
+        return null;
+      }
+    }
+  }
+
+  public void putAll(@NonNull Map<@NonNull Integer, ? extends E> map) {
+    Preconditions.checkNotNull(map, "Map must not be null");
+    map.forEach((index, value) -> put(Objects.requireNonNull(index), value));
+  }
+
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E remove(int index) {
+    if (index < 0 || index >= capacity())
+      return null;
+    AtomicReferenceArray<Object> tab = table;
+    for (;;) {
+      Object current = tab.get(index);
+      if (current instanceof Forward)
+        tab = ((Forward) current).table;
+      else if (current == null)
+        return null;
+      else if (tab.compareAndSet(index, current, null)) {
+        elementCount.decrement();
+        return (E) current;
+      }
+    }
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(int index, @Nullable Object value) {
+    if (value == null || index < 0 || index >= capacity())
+      return false;
+    AtomicReferenceArray<Object> tab = table;
+    for (;;) {
+      Object current = tab.get(index);
+      if (current instanceof Forward)
+        tab = ((Forward) current).table;
+      else if (!value.equals(current))
+        return false;
+      else if (tab.compareAndSet(index, current, null)) {
+        elementCount.decrement();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Attempts to compute a new value for {@code index} and its current value (or null if
+   * absent). If the function returns null, the index is removed.
+   * <p>The update is applied with a compare-and-set. If another thread updates the same index
+   * concurrently, the function is re-applied to the new current value, thus it should be
+   * side effect free.
+   *
+   * @return the new value associated with {@code index}, or null if none
+   */
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E compute(
+      int index, @NonNull IntObjFunction<? super @Nullable E, ? extends @Nullable E> function) {
+    Preconditions.checkNotNull(function, "Function must not be null");
+    AtomicReferenceArray<Object> tab = tableFor(index);
+    for (;;) {
+      Object current = tab.get(index);
+      if (current instanceof Forward) {
+        tab = ((Forward) current).table;
+        continue;
+      }
+      E newValue = function.apply(index, (E) current);
+      if (newValue == null && current == null)
+        return null;
+      if (tab.compareAndSet(index, current, newValue)) {
+        if (current == null) elementCount.increment();
+        else if (newValue == null) elementCount.decrement();
+        return newValue;
+      }
+    }
+  }
+
+  /**
+   * Returns the value associated to {@code index}, or attempts to compute and put a new value
+   * using {@code function}, if the index is not occupied. Under contention the function may be
+   * called, even though another thread's value is returned eventually.
+   */
+  @CanIgnoreReturnValue
+  public @Nullable E computeIfAbsent(
+      int index, @NonNull IntFunction<? extends @Nullable E> function) {
+    Preconditions.checkNotNull(function, "Function must not be null");
+    E value = get(index);
+    if (value != null)
+      return value;
+    E newValue = function.apply(index);
+    if (newValue == null)
+      return null;
+    E previous = putIfAbsent(index, newValue);
+    return (previous != null ? previous : newValue);
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, weakly consistent */
+  public void forEach(@NonNull IntObjConsumer<? super E> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int i = 0, len = capacity(); i < len; ++i) {
+      E value = get(i);
+      if (value != null) action.accept(i, value);
+    }
+  }
+
+  public Map<Integer, E> toMap() {
+    return toMap(HashMap::new);
+  }
+
+  public Map<Integer, E> toMap(@NonNull IntFunction<? extends Map<Integer, E>> factory) {
+    Map<Integer, E> map = factory.apply(size());
+    forEach(map::put);
+    return map;
+  }
+
+  private AtomicReferenceArray<Object> tableFor(int index) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    AtomicReferenceArray<Object> tab = table;
+    if (index < tab.length())
+      return tab;
+    grow(1 + index);
+    return table;
+  }
+
+  private void grow(int minCapacity) {
+    synchronized (resizeLock) {
+      AtomicReferenceArray<Object> oldTable = table;
+      int oldCapacity = oldTable.length();
+      if (minCapacity <= oldCapacity)
+        return;
+      AtomicReferenceArray<Object> newTable =
+          new AtomicReferenceArray<>(Math.max(calculateNewCapacity(minCapacity), minCapacity));
+      Forward forward = new Forward(newTable);
+      for (int i = 0; i < oldCapacity; ++i) {
+        // a concurrent update of the slot fails our CAS, upon which we copy the newer value
+        Object value;
+        do {
+          value = oldTable.get(i);
+          newTable.setPlain(i, value);
+        } while (!oldTable.compareAndSet(i, value, forward));
+      }
+      table = newTable;
+    }
+  }
+
+  private int calculateNewCapacity(int newCapacity) {
+    return (int) Math.ceil(newCapacity * 1.5);
+  }
+
+  /**
+   * Returns a weakly consistent iterator over detached entry views of this map. Removing an
+   * entry through the iterator only removes it if it is still mapped to the same value.
+   */
+  @Override
+  public @NonNull Iterator<IndexMap.Entry<E>> iterator() {
+    return new Iterator<>() {
+
+      int cursor = 0;
+      IndexMap.@Nullable Entry<E> next = advance();
+      IndexMap.@Nullable Entry<E> lastReturned;
+
+      private IndexMap.@Nullable Entry<E> advance() {
+        for (int len = capacity(); cursor < len; ) {
+          int index = cursor++;
+          E value = get(index);
+          if (value != null)
+            return IndexMap.Entry.of(index, value);
+        }
+        return null;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public IndexMap.Entry<E> next() {
+        IndexMap.Entry<E> entry = next;
+        if (entry == null)
+          throw new NoSuchElementException();
+        lastReturned = entry;
+        next = advance();
+        return entry;
+      }
+
+      @Override
+      public void remove() {
+        IndexMap.Entry<E> entry = lastReturned;
+        Preconditions.checkState(entry != null, "No element to remove");
+        ConcurrentIndexMap.this.remove(entry.getIndex(), entry.getValue());
+        lastReturned = null;
+      }
+    };
+  }
+
+  /** Marker, that replaces a slot of a table that has been copied into a larger table */
+  private static final class Forward {
+    final AtomicReferenceArray<Object> table;
+
+    Forward(AtomicReferenceArray<Object> table) {
+      this.table = table;
+    }
+  }
+
+}
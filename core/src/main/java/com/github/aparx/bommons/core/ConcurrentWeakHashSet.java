@@ -0,0 +1,185 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Thread-safe variant of {@link WeakHashSet}, that is backed by a {@link ConcurrentHashMap}
+ * of weakly referenced keys and thus compares elements using {@code equals}.
+ * <p>Lookups never lock and never allocate more than a short-lived lookup key. Reclaimed
+ * elements are collected through a {@link ReferenceQueue}, which is drained piggy-backed on
+ * updates: a thread that adds or removes an element drains the queue, unless another thread is
+ * already doing so, in which case it does not wait. Iterators are weakly consistent and hold a
+ * strong reference to the element they return next.
+ * <p>This set does not permit null elements.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 17:20
+ * @see WeakHashSet
+ * @since 1.0
+ */
+public class ConcurrentWeakHashSet<E> extends AbstractSet<E> {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private final ConcurrentHashMap<Object, Boolean> internalMap;
+
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  public ConcurrentWeakHashSet() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentWeakHashSet(int initialCapacity) {
+    this.internalMap = new ConcurrentHashMap<>(initialCapacity);
+  }
+
+  public ConcurrentWeakHashSet(@NonNull Collection<? extends E> initialElements) {
+    this(initialElements.size());
+    addAll(initialElements);
+  }
+
+  /** Returns the amount of elements, which may include elements that are about to be expunged */
+  @Override
+  public int size() {
+    expungeStaleEntries();
+    return internalMap.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    return o != null && internalMap.containsKey(new LookupKey(o));
+  }
+
+  @Override
+  public boolean add(@NonNull E e) {
+    Preconditions.checkNotNull(e, "Element must not be null");
+    expungeStaleEntries();
+    return internalMap.putIfAbsent(new WeakKey<>(e, queue), Boolean.TRUE) == null;
+  }
+
+  @Override
+  public boolean remove(@Nullable Object o) {
+    if (o == null)
+      return false;
+    expungeStaleEntries();
+    return internalMap.remove(new LookupKey(o)) != null;
+  }
+
+  @Override
+  public void clear() {
+    internalMap.clear();
+  }
+
+  @Override
+  public @NonNull Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Removes all reclaimed elements, unless another thread is already doing so. This is called
+   * by all updates, but may be called explicitly to release entries sooner.
+   */
+  public void expungeStaleEntries() {
+    if (!draining.compareAndSet(false, true))
+      return;
+    try {
+      for (Reference<?> reference; (reference = queue.poll()) != null; )
+        internalMap.remove(reference);
+    } finally {
+      draining.set(false);
+    }
+  }
+
+  /** Weak reference to an element, that caches the element's hash code */
+  private static final class WeakKey<E> extends WeakReference<E> {
+    final int hash;
+
+    WeakKey(E referent, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = referent.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      Object referent = get();
+      if (referent == null) return false; // a reclaimed key only equals itself
+      if (obj instanceof WeakKey) return referent.equals(((WeakKey<?>) obj).get());
+      return obj instanceof LookupKey && referent.equals(((LookupKey) obj).element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /** Strong key used for lookups, that is equal to any weak key of an equal element */
+  private static final class LookupKey {
+    final Object element;
+
+    LookupKey(Object element) {
+      this.element = element;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof WeakKey) return element.equals(((WeakKey<?>) obj).get());
+      return obj instanceof LookupKey && element.equals(((LookupKey) obj).element);
+    }
+
+    @Override
+    public int hashCode() {
+      return element.hashCode();
+    }
+  }
+
+  private final class Itr implements Iterator<E> {
+
+    final Iterator<Object> keys = internalMap.keySet().iterator();
+    @Nullable E next;
+    @Nullable E lastReturned;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+      while (next == null && keys.hasNext())
+        next = ((WeakKey<E>) keys.next()).get();
+      return next != null;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+      E element = next;
+      lastReturned = element;
+      next = null;
+      return element;
+    }
+
+    @Override
+    public void remove() {
+      Preconditions.checkState(lastReturned != null, "No element to remove");
+      ConcurrentWeakHashSet.this.remove(lastReturned);
+      lastReturned = null;
+    }
+  }
+
+}
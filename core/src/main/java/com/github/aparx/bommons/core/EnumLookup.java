@@ -0,0 +1,198 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+
+/**
+ * Cached, case-insensitive resolver of enum constants by name.
+ * <p>Names are matched ignoring surrounding whitespace and case, treating spaces like
+ * underscores, so that {@code " diamond sword"} resolves {@code DIAMOND_SWORD}. Each enum class
+ * has a single lookup, that is created on first use and held by a {@link ClassValue}. Lookups
+ * hash and compare the characters of the given {@link CharSequence} directly against a
+ * precomputed open addressing table, thus they do not allocate.
+ * <p>Additional names can be registered as aliases. Registering an alias replaces the table,
+ * which is safely published, thus lookups never lock.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 18:10
+ * @see ObjectConversion#toEnum(Class, Object)
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class EnumLookup<E extends Enum<E>> {
+
+  private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<>() {
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected EnumLookup<?> computeValue(Class<?> type) {
+      return new EnumLookup(type);
+    }
+  };
+
+  private final Class<E> enumType;
+
+  private volatile Table<E> table;
+
+  private EnumLookup(Class<E> enumType) {
+    Preconditions.checkArgument(enumType.isEnum(), "%s is not an enum", enumType);
+    this.enumType = enumType;
+    E[] constants = enumType.getEnumConstants();
+    String[] names = new String[constants.length];
+    for (int i = 0; i < constants.length; ++i)
+      names[i] = normalize(constants[i].name());
+    this.table = new Table<>(names, constants);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E>> EnumLookup<E> of(Class<E> enumType) {
+    Preconditions.checkNotNull(enumType, "Type must not be null");
+    return (EnumLookup<E>) LOOKUPS.get(enumType);
+  }
+
+  public Class<E> getEnumType() {
+    return enumType;
+  }
+
+  /** Returns the constant named {@code name}, or null if there is none */
+  public @Nullable E find(CharSequence name) {
+    Preconditions.checkNotNull(name, "Name must not be null");
+    return table.find(name);
+  }
+
+  /**
+   * Returns the constant named {@code name}.
+   *
+   * @throws IllegalArgumentException if there is no such constant
+   */
+  public E valueOf(CharSequence name) {
+    E constant = find(name);
+    if (constant == null)
+      throw new IllegalArgumentException(
+          "No enum constant " + enumType.getCanonicalName() + "." + name);
+    return constant;
+  }
+
+  /**
+   * Registers {@code alias} as additional name of {@code constant}.
+   *
+   * @throws IllegalArgumentException if the alias already names another constant
+   */
+  public synchronized void registerAlias(CharSequence alias, E constant) {
+    Preconditions.checkNotNull(alias, "Alias must not be null");
+    Preconditions.checkNotNull(constant, "Constant must not be null");
+    Table<E> current = table;
+    E existing = current.find(alias);
+    Preconditions.checkArgument(existing == null || existing == constant,
+        "Alias %s already names %s", alias, existing);
+    if (existing != null)
+      return;
+    String normalizedAlias = normalize(alias);
+    Preconditions.checkArgument(!normalizedAlias.isEmpty(), "Alias must not be blank");
+    this.table = current.with(normalizedAlias, constant);
+  }
+
+  private static String normalize(CharSequence name) {
+    int start = trimStart(name), end = trimEnd(name, start);
+    char[] chars = new char[end - start];
+    for (int i = start; i < end; ++i)
+      chars[i - start] = normalize(name.charAt(i));
+    return new String(chars);
+  }
+
+  private static char normalize(char c) {
+    if (c == ' ') return '_';
+    if (c >= 'a' && c <= 'z') return (char) (c - ('a' - 'A'));
+    return (c < 0x80 ? c : Character.toUpperCase(c));
+  }
+
+  private static int trimStart(CharSequence name) {
+    int start = 0, length = name.length();
+    while (start < length && name.charAt(start) <= ' ')
+      ++start;
+    return start;
+  }
+
+  private static int trimEnd(CharSequence name, int start) {
+    int end = name.length();
+    while (end > start && name.charAt(end - 1) <= ' ')
+      --end;
+    return end;
+  }
+
+  private static int hash(String normalizedName) {
+    return mix(hash(normalizedName, 0, normalizedName.length(), true));
+  }
+
+  private static int hash(CharSequence name, int start, int end, boolean normalize) {
+    int hash = 0;
+    for (int i = start; i < end; ++i)
+      hash = 31 * hash + (normalize ? normalize(name.charAt(i)) : name.charAt(i));
+    return hash;
+  }
+
+  private static int mix(int hash) {
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Immutable open addressing table of normalized names and their constants */
+  private static final class Table<E> {
+
+    final String[] names;
+    final E[] constants;
+    final @Nullable String[] slotNames;
+    final @Nullable E[] slotConstants;
+
+    @SuppressWarnings("unchecked")
+    Table(String[] names, E[] constants) {
+      this.names = names;
+      this.constants = constants;
+      int length = Math.max(4, Integer.highestOneBit(Math.max(1, names.length * 2) - 1) << 1);
+      this.slotNames = new String[length];
+      this.slotConstants = (E[]) new Object[length];
+      int mask = length - 1;
+      for (int n = 0; n < names.length; ++n) {
+        int i = hash(names[n]) & mask;
+        for (; slotNames[i] != null; i = (i + 1) & mask)
+          if (slotNames[i].equals(names[n])) break;
+        if (slotNames[i] == null) { // on ambiguity, the first declared constant takes precedence
+          slotNames[i] = names[n];
+          slotConstants[i] = constants[n];
+        }
+      }
+    }
+
+    Table<E> with(String name, E constant) {
+      String[] newNames = Arrays.copyOf(names, names.length + 1);
+      E[] newConstants = Arrays.copyOf(constants, constants.length + 1);
+      newNames[names.length] = name;
+      newConstants[constants.length] = constant;
+      return new Table<>(newNames, newConstants);
+    }
+
+    @Nullable E find(CharSequence name) {
+      int start = trimStart(name), end = trimEnd(name, start);
+      int length = end - start;
+      String[] slotNames = this.slotNames;
+      int mask = slotNames.length - 1;
+      for (int i = mix(hash(name, start, end, true)) & mask; ; i = (i + 1) & mask) {
+        String slotName = slotNames[i];
+        if (slotName == null)
+          return null;
+        if (slotName.length() == length && matches(slotName, name, start))
+          return slotConstants[i];
+      }
+    }
+
+    private static boolean matches(String normalizedName, CharSequence name, int start) {
+      for (int i = 0, length = normalizedName.length(); i < length; ++i)
+        if (normalizedName.charAt(i) != normalize(name.charAt(start + i))) return false;
+      return true;
+    }
+  }
+
+}
@@ -0,0 +1,300 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Entry-less variant of {@link IndexMap}, that stores values directly in a resizable object
+ * array and tracks occupied indices in a separate bitset.
+ * <p>Other than {@code IndexMap}, this map does not allocate an {@link IndexMap.Entry} per
+ * element. Iterating through {@link #forEach(IntObjConsumer)} is allocation free. Entries are
+ * only created lazily when the {@link Iterable} API is used, in which case they are detached
+ * views: calling {@link IndexMap.Entry#setValue(Object)} on them does not write through to this
+ * map.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 10:52
+ * @see IndexMap
+ * @since 1.0
+ */
+public class FlatIndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
+
+  private final int initialCapacity;
+
+  private transient Object[] array;
+
+  /** Bitset of occupied indices, where each bit represents one index of {@code array} */
+  private transient long[] present;
+
+  private transient int elementCount;
+
+  public FlatIndexMap() {
+    this(IndexMap.DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public FlatIndexMap(int initialCapacity) {
+    this.initialCapacity = Math.max(initialCapacity, 0);
+    this.array = new Object[this.initialCapacity];
+    this.present = IndexBits.create(this.initialCapacity);
+  }
+
+  public FlatIndexMap(@NonNull Map<Integer, ? extends E> map) {
+    this(map.size());
+    putAll(map);
+  }
+
+  public FlatIndexMap(@NonNull FlatIndexMap<E> other) {
+    this.initialCapacity = other.capacity();
+    this.array = other.array.clone();
+    this.present = other.present.clone();
+    this.elementCount = other.elementCount;
+  }
+
+  @Pure
+  public final @NonNegative int capacity() {
+    return array.length;
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return elementCount;
+  }
+
+  public void clear() {
+    int previousCapacity = capacity();
+    resizeToCapacity0(initialCapacity, false);
+    if (capacity() == previousCapacity) {
+      Arrays.fill(array, null);
+      Arrays.fill(present, 0L);
+    }
+    elementCount = 0;
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > capacity())
+      resizeToCapacity0(capacity, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable E get(int index) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    return (index < capacity() ? (E) array[index] : null);
+  }
+
+  @CanIgnoreReturnValue
+  public @Nullable E put(IndexMap.@NonNull Entry<E> entry) {
+    Preconditions.checkNotNull(entry, "Entry must not be null");
+    return put(entry.getIndex(), entry.getValue());
+  }
+
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E put(int index, E value) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    if (index >= capacity())
+      resizeToCapacity0(calculateNewCapacity(1 + index), true);
+    Object previousValue = array[index];
+    array[index] = value;
+    if (!IndexBits.get(present, index)) {
+      IndexBits.set(present, index);
+      ++elementCount;
+    }
+    return (E) previousValue;
+  }
+
+  public void putAll(@NonNull Map<@NonNull Integer, ? extends E> map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    ensureCapacity(indexOffset + map.size());
+    for (Map.Entry<Integer, ? extends E> entry : map.entrySet())
+      put(indexOffset + Objects.requireNonNull(entry.getKey()), entry.getValue());
+  }
+
+  public void putAll(@NonNull Map<@NonNull Integer, ? extends E> map) {
+    putAll(map, 0);
+  }
+
+  public void putAll(E @NonNull [] array, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    ensureCapacity(indexOffset + array.length);
+    putRange(array, 0, indexOffset, array.length);
+  }
+
+  public void putAll(E @NonNull [] array) {
+    putAll(array, 0);
+  }
+
+  public void putAll(@NonNull Iterable<? extends E> iterable, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    if (iterable instanceof Collection)
+      ensureCapacity(indexOffset + ((Collection<?>) iterable).size());
+    Iterator<? extends E> iterator = iterable.iterator();
+    for (int i = 0; iterator.hasNext(); ++i)
+      put(indexOffset + i, iterator.next());
+  }
+
+  public void putAll(@NonNull Iterable<? extends E> iterable) {
+    putAll(iterable, 0);
+  }
+
+  /**
+   * Puts all entries of {@code map} into this map, with their indices shifted by
+   * {@code indexOffset}. The capacity is ensured once, after which each run of consecutively
+   * occupied indices of {@code map} is transferred as a single block copy.
+   */
+  public void putAll(@NonNull FlatIndexMap<? extends E> map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    if (map == this) map = clone();
+    long[] words = map.present;
+    int endIndex = 1 + IndexBits.lastSetBit(words);
+    ensureCapacity(indexOffset + endIndex);
+    int start = IndexBits.nextSetBit(words, 0);
+    while (start != IndexBits.NO_INDEX) {
+      int end = Math.min(IndexBits.nextClearBit(words, start), endIndex);
+      putRange(map.array, start, indexOffset + start, end - start);
+      start = IndexBits.nextSetBit(words, end);
+    }
+  }
+
+  public void putAll(@NonNull FlatIndexMap<? extends E> map) {
+    putAll(map, 0);
+  }
+
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E remove(int index) {
+    if (!containsKey(index))
+      return null;
+    Object previousValue = array[index];
+    array[index] = null;
+    IndexBits.clear(present, index);
+    --elementCount;
+    return (E) previousValue;
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(int index, Object value) {
+    if (!contains(index, value))
+      return false;
+    remove(index);
+    return true;
+  }
+
+  public boolean containsKey(int index) {
+    return index >= 0 && index < capacity() && IndexBits.get(present, index);
+  }
+
+  public boolean containsValue(Object value) {
+    return indexOf(value) != IndexBits.NO_INDEX;
+  }
+
+  public boolean contains(int index, Object value) {
+    return containsKey(index) && Objects.equals(array[index], value);
+  }
+
+  @CheckReturnValue
+  public int indexOf(Object value) {
+    for (int i = IndexBits.nextSetBit(present, 0); i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+      if (Objects.equals(value, array[i])) return i;
+    return IndexBits.NO_INDEX;
+  }
+
+  @CheckReturnValue
+  public int lastIndexOf(Object value) {
+    int i = IndexBits.lastSetBit(present);
+    for (; i >= 0; i = IndexBits.previousSetBit(present, i - 1))
+      if (Objects.equals(value, array[i])) return i;
+    return IndexBits.NO_INDEX;
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, without allocating */
+  @SuppressWarnings("unchecked")
+  public void forEach(@NonNull IntObjConsumer<? super E> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int i = IndexBits.nextSetBit(present, 0); i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+      action.accept(i, (E) array[i]);
+  }
+
+  public Map<Integer, E> toMap() {
+    return toMap(HashMap::new);
+  }
+
+  public Map<Integer, E> toMap(@NonNull IntFunction<? extends Map<Integer, E>> factory) {
+    Map<Integer, E> map = factory.apply(size());
+    forEach(map::put);
+    return map;
+  }
+
+  /** Copies {@code length} values into the occupied range, requiring it to be in capacity */
+  private void putRange(Object[] source, int sourceIndex, int index, int length) {
+    System.arraycopy(source, sourceIndex, array, index, length);
+    elementCount += length - IndexBits.cardinality(present, index, index + length);
+    IndexBits.setRange(present, index, index + length);
+  }
+
+  private void resizeToCapacity0(int newCapacity, boolean copyThisArray) {
+    if (capacity() == newCapacity)
+      return;
+    if (copyThisArray) {
+      this.array = Arrays.copyOf(array, newCapacity);
+      this.present = IndexBits.resize(present, newCapacity);
+    } else {
+      this.array = new Object[newCapacity];
+      this.present = IndexBits.create(newCapacity);
+    }
+  }
+
+  private int calculateNewCapacity(int newCapacity) {
+    return (int) Math.ceil(newCapacity * 1.5);
+  }
+
+  /**
+   * Returns an iterator over detached entry views of this map. Each call to {@code next()}
+   * allocates a new entry, thus prefer {@link #forEach(IntObjConsumer)} on hot paths.
+   */
+  @Override
+  public @NonNull Iterator<IndexMap.Entry<E>> iterator() {
+    return new Iterator<>() {
+
+      int cursor = IndexBits.nextSetBit(present, 0);
+
+      @Override
+      public boolean hasNext() {
+        return cursor != IndexBits.NO_INDEX;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public IndexMap.Entry<E> next() {
+        if (cursor == IndexBits.NO_INDEX)
+          throw new NoSuchElementException();
+        int index = cursor;
+        cursor = IndexBits.nextSetBit(present, 1 + index);
+        return IndexMap.Entry.of(index, (E) array[index]);
+      }
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public FlatIndexMap<E> clone() {
+    try {
+      FlatIndexMap<E> clone = (FlatIndexMap<E>) super.clone();
+      clone.array = array.clone();
+      clone.present = present.clone();
+      return clone;
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
@@ -0,0 +1,165 @@
+package com.github.aparx.bommons.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+
+/**
+ * Utility for index maps, that track the occupancy of their slots in a bitset, composed of
+ * {@code long} words, where each bit represents exactly one index.
+ * <p>All navigation methods jump between set bits using {@link Long#numberOfTrailingZeros} and
+ * {@link Long#numberOfLeadingZeros}, so that scanning scales with the amount of set bits rather
+ * than the amount of indices covered.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 09:12
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class IndexBits {
+
+  static final int NO_INDEX = -1;
+
+  private static final int ADDRESS_BITS_PER_WORD = 6;
+
+  private static final long[] EMPTY_WORDS = new long[0];
+
+  private IndexBits() {
+    throw new AssertionError();
+  }
+
+  /** Returns the amount of words required to store {@code bitCount} bits */
+  static int wordCount(int bitCount) {
+    return (bitCount + Long.SIZE - 1) >>> ADDRESS_BITS_PER_WORD;
+  }
+
+  static int wordIndex(int bitIndex) {
+    return bitIndex >>> ADDRESS_BITS_PER_WORD;
+  }
+
+  static long[] create(int bitCount) {
+    int wordCount = wordCount(bitCount);
+    return (wordCount != 0 ? new long[wordCount] : EMPTY_WORDS);
+  }
+
+  /**
+   * Returns a bitset that covers {@code bitCount} bits, copying all bits of {@code words} that
+   * are still in range. Bits beyond {@code bitCount} are cleared.
+   */
+  static long[] resize(long[] words, int bitCount) {
+    int wordCount = wordCount(bitCount);
+    long[] newWords = (wordCount != words.length
+        ? (wordCount != 0 ? Arrays.copyOf(words, wordCount) : EMPTY_WORDS)
+        : words);
+    int remainder = bitCount & (Long.SIZE - 1);
+    if (remainder != 0) // clear trailing bits that exceed the new bound
+      newWords[wordCount - 1] &= (1L << remainder) - 1;
+    return newWords;
+  }
+
+  static boolean get(long[] words, int bitIndex) {
+    int wordIndex = wordIndex(bitIndex);
+    return wordIndex < words.length && (words[wordIndex] & (1L << bitIndex)) != 0;
+  }
+
+  static void set(long[] words, int bitIndex) {
+    words[wordIndex(bitIndex)] |= 1L << bitIndex;
+  }
+
+  static void clear(long[] words, int bitIndex) {
+    words[wordIndex(bitIndex)] &= ~(1L << bitIndex);
+  }
+
+  /** Returns the index of the first set bit at or after {@code fromIndex}, or {@code -1} */
+  static int nextSetBit(long[] words, int fromIndex) {
+    if (fromIndex < 0) fromIndex = 0;
+    int wordIndex = wordIndex(fromIndex);
+    if (wordIndex >= words.length)
+      return NO_INDEX;
+    long word = words[wordIndex] & (-1L << fromIndex);
+    while (word == 0) {
+      if (++wordIndex == words.length)
+        return NO_INDEX;
+      word = words[wordIndex];
+    }
+    return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+  }
+
+  /**
+   * Returns the index of the first clear bit at or after {@code fromIndex}. Bits beyond the
+   * words are considered clear, thus the returned index may exceed the covered range.
+   */
+  static int nextClearBit(long[] words, int fromIndex) {
+    int wordIndex = wordIndex(fromIndex);
+    if (wordIndex >= words.length)
+      return fromIndex;
+    long word = ~words[wordIndex] & (-1L << fromIndex);
+    while (word == 0) {
+      if (++wordIndex == words.length)
+        return wordIndex << ADDRESS_BITS_PER_WORD;
+      word = ~words[wordIndex];
+    }
+    return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+  }
+
+  /** Sets all bits within {@code [fromIndex, toIndex)} */
+  static void setRange(long[] words, int fromIndex, int toIndex) {
+    if (fromIndex >= toIndex)
+      return;
+    int startWord = wordIndex(fromIndex);
+    int endWord = wordIndex(toIndex - 1);
+    long firstMask = -1L << fromIndex;
+    long lastMask = -1L >>> -toIndex;
+    if (startWord == endWord) {
+      words[startWord] |= firstMask & lastMask;
+      return;
+    }
+    words[startWord] |= firstMask;
+    for (int i = startWord + 1; i < endWord; ++i)
+      words[i] = -1L;
+    words[endWord] |= lastMask;
+  }
+
+  /** Returns the index of the last set bit at or before {@code fromIndex}, or {@code -1} */
+  static int previousSetBit(long[] words, int fromIndex) {
+    if (fromIndex < 0)
+      return NO_INDEX;
+    int wordIndex = wordIndex(fromIndex);
+    if (wordIndex >= words.length)
+      return lastSetBit(words);
+    long word = words[wordIndex] & (-1L >>> -(fromIndex + 1));
+    while (word == 0) {
+      if (wordIndex-- == 0)
+        return NO_INDEX;
+      word = words[wordIndex];
+    }
+    return (wordIndex + 1) * Long.SIZE - 1 - Long.numberOfLeadingZeros(word);
+  }
+
+  static int lastSetBit(long[] words) {
+    for (int i = words.length - 1; i >= 0; --i) {
+      long word = words[i];
+      if (word != 0)
+        return (i + 1) * Long.SIZE - 1 - Long.numberOfLeadingZeros(word);
+    }
+    return NO_INDEX;
+  }
+
+  /** Returns the amount of set bits within {@code [fromIndex, toIndex)} */
+  static int cardinality(long[] words, int fromIndex, int toIndex) {
+    if (fromIndex >= toIndex)
+      return 0;
+    int startWord = wordIndex(fromIndex);
+    int endWord = wordIndex(toIndex - 1);
+    long firstMask = -1L << fromIndex;
+    long lastMask = -1L >>> -toIndex;
+    if (startWord == endWord)
+      return Long.bitCount(words[startWord] & firstMask & lastMask);
+    int count = Long.bitCount(words[startWord] & firstMask);
+    for (int i = startWord + 1; i < endWord; ++i)
+      count += Long.bitCount(words[i]);
+    return count + Long.bitCount(words[endWord] & lastMask);
+  }
+
+}
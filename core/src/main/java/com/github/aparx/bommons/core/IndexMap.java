@@ -1,5 +1,6 @@
 package com.github.aparx.bommons.core;
 
+import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.CheckReturnValue;
@@ -9,12 +10,25 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Map-like implementation that associates objects to indices.
  * <p>This implementation utilizes a resizable array, that dynamically grows and shrinks with
- * elements added and removed.
+ * elements added and removed. Occupied indices are additionally tracked in a bitset, so that
+ * iteration and searches jump between occupied indices and scale with {@link #size()} rather
+ * than {@link #capacity()}.
+ * <p>Whether the backing array shrinks when the highest occupied index is removed, is decided
+ * by the map's {@link ShrinkPolicy}. The capacity never shrinks below the initial capacity,
+ * unless explicitly requested through {@link #trimToSize()}.
+ * <p>Optionally, the map tracks all indices modified through {@code put}, {@code remove} and
+ * {@code clear} in a separate dirty bitset, which can be drained using
+ * {@link #drainDirty(IntConsumer)}, to only propagate changed indices downstream.
  *
  * @author aparx (Vinzent Z.)
  * @version 2023-12-01 18:34
@@ -24,44 +38,61 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
 
   public static final int DEFAULT_INITIAL_CAPACITY = 10;
 
-  private static final int INDEX_NOT_FOUND = -1;
+  private static final int INDEX_NOT_FOUND = IndexBits.NO_INDEX;
 
   private final int initialCapacity;
 
+  private ShrinkPolicy shrinkPolicy;
+
   private transient Entry<E>[] array;
 
+  /** Bitset of occupied indices, where each bit represents one index of {@code array} */
+  private transient long[] occupied;
+
+  /** Bitset of modified indices, or null if dirty tracking is disabled */
+  private transient long @Nullable [] dirty;
+
   private transient int elementCount;
 
   public IndexMap() {
     this(DEFAULT_INITIAL_CAPACITY);
   }
 
-  @SuppressWarnings("unchecked")
   public IndexMap(int initialCapacity) {
+    this(initialCapacity, ShrinkPolicy.DEFAULT);
+  }
+
+  @SuppressWarnings("unchecked")
+  public IndexMap(int initialCapacity, @NonNull ShrinkPolicy shrinkPolicy) {
+    Preconditions.checkNotNull(shrinkPolicy, "Policy must not be null");
     this.initialCapacity = Math.max(initialCapacity, 0);
+    this.shrinkPolicy = shrinkPolicy;
     this.array = new Entry[this.initialCapacity];
+    this.occupied = IndexBits.create(this.initialCapacity);
   }
 
   @SuppressWarnings("unchecked")
   public IndexMap(@NonNull Map<Integer, ? extends E> map) {
     this.initialCapacity = map.size();
+    this.shrinkPolicy = ShrinkPolicy.DEFAULT;
     this.array = new Entry[initialCapacity];
+    this.occupied = IndexBits.create(initialCapacity);
     putAll(map);
   }
 
   @SuppressWarnings({"unchecked"})
   public IndexMap(@NonNull IndexMap<E> other) {
     this.initialCapacity = other.capacity();
+    this.shrinkPolicy = other.shrinkPolicy;
     this.array = new Entry[initialCapacity];
+    this.occupied = other.occupied.clone();
     this.elementCount = other.elementCount;
     int elemTracker = 0;
     // copy keys & values
-    for (int i = 0, len = other.capacity(); i < len; ++i) {
+    for (int i = other.firstIndex(); i != INDEX_NOT_FOUND; i = other.nextIndex(i)) {
       Entry<E> otherEntry = other.array[i];
-      if (otherEntry != null) {
-        array[i] = new Entry<>(otherEntry.getIndex(), otherEntry.object);
-        ++elemTracker;
-      }
+      array[i] = new Entry<>(otherEntry.getIndex(), otherEntry.object);
+      ++elemTracker;
     }
     if (elemTracker != elementCount)
       throw new ConcurrentModificationException();
@@ -78,10 +109,15 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
   }
 
   public void clear() {
+    if (dirty != null)
+      for (int i = firstIndex(); i != INDEX_NOT_FOUND; i = nextIndex(i))
+        markDirty(i);
     int previousCapacity = capacity();
     resizeToCapacity0(initialCapacity, false);
-    if (capacity() == previousCapacity)
+    if (capacity() == previousCapacity) {
       Arrays.fill(array, null);
+      Arrays.fill(occupied, 0L);
+    }
     elementCount = 0;
   }
 
@@ -90,8 +126,31 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
       resizeToCapacity0(capacity, true);
   }
 
+  /**
+   * Shrinks the capacity of this map to exactly fit its highest occupied index, regardless of
+   * the initial capacity and the shrink policy.
+   */
+  public void trimToSize() {
+    resizeToCapacity0(1 + lastIndex(), true);
+  }
+
+  public @NonNull ShrinkPolicy getShrinkPolicy() {
+    return shrinkPolicy;
+  }
+
+  public void setShrinkPolicy(@NonNull ShrinkPolicy shrinkPolicy) {
+    Preconditions.checkNotNull(shrinkPolicy, "Policy must not be null");
+    this.shrinkPolicy = shrinkPolicy;
+  }
+
+  /**
+   * Returns the value associated to {@code index}, or null if there is none. Indices beyond
+   * the capacity are never occupied and thus also return null, since the capacity may shrink.
+   */
   public @Nullable E get(int index) {
-    Preconditions.checkElementIndex(index, capacity());
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    if (index >= capacity())
+      return null;
     Entry<E> entry = array[index];
     if (entry != null)
       return entry.getValue();
@@ -109,10 +168,18 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
     Preconditions.checkState(index >= 0, "Index must be positive");
     if (index >= capacity())
       resizeToCapacity0(calculateNewCapacity(1 + index), true);
+    return put0(index, value);
+  }
+
+  /** Puts {@code value} without any checks, requiring {@code index} to be within capacity */
+  private @Nullable E put0(int index, E value) {
+    if (dirty != null)
+      markDirty(index);
     Entry<E> entry = array[index];
     E previousValue = null;
     if (entry == null) {
       array[index] = new Entry<>(index, value);
+      IndexBits.set(occupied, index);
       ++elementCount;
     } else {
       previousValue = entry.getValue();
@@ -136,8 +203,9 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
   public void putAll(E @NonNull [] array, int indexOffset) {
     Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
     ensureCapacity(indexOffset + array.length);
+    // capacity is ensured once, thus each element skips the checks of `put`
     for (int i = 0, len = array.length; i < len; ++i)
-      put(indexOffset + i, array[i]);
+      put0(indexOffset + i, array[i]);
   }
 
   public void putAll(E @NonNull [] array) {
@@ -149,44 +217,73 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
     if (iterable instanceof Collection)
       ensureCapacity(indexOffset + ((Collection<?>) iterable).size());
     Iterator<? extends E> iterator = iterable.iterator();
-    for (int i = 0; iterator.hasNext(); ++i)
-      put(indexOffset + i, iterator.next());
+    for (int i = 0; iterator.hasNext(); ++i) {
+      int index = indexOffset + i;
+      if (index < capacity())
+        put0(index, iterator.next());
+      else
+        put(index, iterator.next());
+    }
   }
 
   public void putAll(@NonNull Iterable<? extends E> iterable) {
     putAll(iterable, 0);
   }
 
-  public void putAll(IndexMap<? extends E> map, int indexOffset) {
-    ensureCapacity(indexOffset + map.size());
-    map.forEach((entry) -> put(indexOffset + entry.getIndex(), entry.getValue()));
+  /**
+   * Puts all entries of {@code map} into this map, with their indices shifted by
+   * {@code indexOffset}. The capacity is ensured once for the highest index, after which the
+   * occupied indices of {@code map} are transferred in a single pass over its bitset. Entries
+   * are not shared, since they are mutable, thus new entries are allocated for indices not
+   * occupied in this map yet. The bitset is walked from the highest index downwards, so that
+   * putting this map into itself reads each entry before a shifted write can overwrite it.
+   */
+  public void putAll(@NonNull IndexMap<? extends E> map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    int lastIndex = map.lastIndex();
+    if (lastIndex == INDEX_NOT_FOUND)
+      return;
+    Preconditions.checkArgument(indexOffset < Integer.MAX_VALUE - lastIndex,
+        "indexOffset exceeds the maximum index");
+    ensureCapacity(indexOffset + lastIndex + 1);
+    Entry<? extends E>[] source = map.array;
+    long[] words = map.occupied;
+    for (int w = IndexBits.wordCount(1 + lastIndex) - 1; w >= 0; --w)
+      for (long word = words[w]; word != 0; ) {
+        int bit = 63 - Long.numberOfLeadingZeros(word);
+        word &= ~(1L << bit);
+        int index = (w << 6) + bit;
+        put0(indexOffset + index, source[index].getValue());
+      }
   }
 
-  public void putAll(IndexMap<? extends E> map) {
+  public void putAll(@NonNull IndexMap<? extends E> map) {
     putAll(map, 0);
   }
 
   @CanIgnoreReturnValue
   public @Nullable E remove(int index) {
-    Preconditions.checkElementIndex(index, size());
-    E previousValue = null;
+    if (!containsKey(index))
+      return null;
     Entry<E> entry = array[index];
-    if (entry != null) {
-      previousValue = entry.getValue();
-      entry.setValue(null);
-    }
+    E previousValue = entry.getValue();
+    entry.setValue(null);
     array[index] = null;
+    IndexBits.clear(occupied, index);
     --elementCount;
+    if (dirty != null)
+      markDirty(index);
+    shrinkIfRequested();
     return previousValue;
   }
 
   @CanIgnoreReturnValue
   public boolean remove(int index, Object value) {
-    Preconditions.checkElementIndex(index, size());
-    Entry<E> entry = array[index];
-    if (entry != null && Objects.equals(entry.getValue(), value))
-      return remove(index) != null;
-    return false;
+    if (!contains(index, value))
+      return false;
+    remove(index);
+    return true;
   }
 
   public boolean containsKey(int index) {
@@ -207,17 +304,13 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
   @CheckReturnValue
   public int indexOf(Object value) {
     if (value == null) {
-      for (int i = 0, len = capacity(); i < len; ++i) {
-        Entry<E> entry = array[i];
-        if (entry != null && entry.object == null)
+      for (int i = firstIndex(); i != INDEX_NOT_FOUND; i = nextIndex(i))
+        if (array[i].object == null)
           return i;
-      }
     } else {
-      for (int i = 0, len = capacity(); i < len; ++i) {
-        Entry<E> entry = array[i];
-        if (entry != null && Objects.equals(value, entry.getValue()))
+      for (int i = firstIndex(); i != INDEX_NOT_FOUND; i = nextIndex(i))
+        if (Objects.equals(value, array[i].getValue()))
           return i;
-      }
     }
     return INDEX_NOT_FOUND;
   }
@@ -225,32 +318,159 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
   @CheckReturnValue
   public int lastIndexOf(Object value) {
     if (value == null) {
-      for (int i = capacity(); i > 0; --i) {
-        Entry<E> entry = array[i - 1];
-        if (entry != null && entry.object == null)
-          return i - 1;
-      }
+      for (int i = lastIndex(); i != INDEX_NOT_FOUND; i = previousIndex(i))
+        if (array[i].object == null)
+          return i;
     } else {
-      for (int i = capacity(); i > 0; --i) {
-        Entry<E> entry = array[i - 1];
-        if (entry != null && Objects.equals(value, entry.getValue()))
-          return i - 1;
-      }
+      for (int i = lastIndex(); i != INDEX_NOT_FOUND; i = previousIndex(i))
+        if (Objects.equals(value, array[i].getValue()))
+          return i;
     }
     return INDEX_NOT_FOUND;
   }
 
+  /**
+   * Enables or disables tracking of modified indices. Disabling discards all dirty indices.
+   * While disabled, the tracking costs a single null check per modification.
+   * <p>Note that modifications of an entry through {@link Entry#setValue(Object)} bypass this
+   * map and are therefore not tracked.
+   */
+  public void setDirtyTracking(boolean dirtyTracking) {
+    if (dirtyTracking == isDirtyTracking())
+      return;
+    dirty = (dirtyTracking ? IndexBits.create(capacity()) : null);
+  }
+
+  @Pure
+  public final boolean isDirtyTracking() {
+    return dirty != null;
+  }
+
+  /** Returns true if {@code index} has been modified since the last drain */
+  public boolean isDirty(int index) {
+    return dirty != null && index >= 0 && IndexBits.get(dirty, index);
+  }
+
+  /**
+   * Calls {@code action} for each index modified since the last drain in ascending order and
+   * clears them afterwards. Indices that were removed are reported as well.
+   *
+   * @return the amount of indices drained
+   */
+  @CanIgnoreReturnValue
+  public int drainDirty(@NonNull IntConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    long[] dirty = this.dirty;
+    if (dirty == null)
+      return 0;
+    int drained = 0;
+    for (int w = 0; w < dirty.length; ++w) {
+      long word = dirty[w];
+      if (word == 0) continue;
+      dirty[w] = 0L;
+      for (; word != 0; word &= word - 1, ++drained)
+        action.accept((w << 6) + Long.numberOfTrailingZeros(word));
+    }
+    return drained;
+  }
+
+  private void markDirty(int index) {
+    long[] dirty = this.dirty;
+    if (IndexBits.wordIndex(index) >= dirty.length)
+      this.dirty = dirty = IndexBits.resize(dirty, Math.max(1 + index, capacity()));
+    IndexBits.set(dirty, index);
+  }
+
+  /** Returns the lowest occupied index, or {@code -1} if this map is empty */
+  @CheckReturnValue
+  public int firstIndex() {
+    return IndexBits.nextSetBit(occupied, 0);
+  }
+
+  /** Returns the highest occupied index, or {@code -1} if this map is empty */
+  @CheckReturnValue
+  public int lastIndex() {
+    return IndexBits.lastSetBit(occupied);
+  }
+
+  /** Returns the lowest occupied index greater than {@code index}, or {@code -1} if none */
+  @CheckReturnValue
+  public int nextIndex(int index) {
+    if (index == Integer.MAX_VALUE)
+      return INDEX_NOT_FOUND;
+    return IndexBits.nextSetBit(occupied, 1 + index);
+  }
+
+  /** Returns the highest occupied index lower than {@code index}, or {@code -1} if none */
+  @CheckReturnValue
+  public int previousIndex(int index) {
+    if (index <= 0)
+      return INDEX_NOT_FOUND;
+    return IndexBits.previousSetBit(occupied, index - 1);
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, without allocating */
+  public void forEach(@NonNull IntObjConsumer<? super E> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int i = firstIndex(); i != INDEX_NOT_FOUND; i = nextIndex(i))
+      action.accept(i, array[i].getValue());
+  }
+
+  /**
+   * Reports all differences between this map (the previous state) and {@code other} (the
+   * current state) to {@code consumer}, comparing values using {@link Object#equals(Object)}.
+   *
+   * @see #diff(IndexMap, DiffConsumer, Equivalence)
+   */
+  public void diff(@NonNull IndexMap<? extends E> other,
+                   @NonNull DiffConsumer<? super E> consumer) {
+    diff(other, consumer, Equivalence.equals());
+  }
+
+  /**
+   * Reports all differences between this map (the previous state) and {@code other} (the
+   * current state) to {@code consumer}, in ascending index order.
+   * <p>Indices only occupied in {@code other} are reported as added, indices only occupied in
+   * this map as removed, and indices occupied in both whose values are not equivalent as
+   * changed. Both occupancy bitsets are walked word by word, thus unoccupied regions are
+   * skipped 64 indices at a time and nothing is allocated.
+   *
+   * @param equivalence the value comparison, such as {@link Equivalence#identity()}
+   */
+  public void diff(@NonNull IndexMap<? extends E> other,
+                   @NonNull DiffConsumer<? super E> consumer,
+                   @NonNull Equivalence<? super E> equivalence) {
+    Preconditions.checkNotNull(other, "Other map must not be null");
+    Preconditions.checkNotNull(consumer, "Consumer must not be null");
+    Preconditions.checkNotNull(equivalence, "Equivalence must not be null");
+    long[] thisWords = occupied, otherWords = other.occupied;
+    for (int w = 0, len = Math.max(thisWords.length, otherWords.length); w < len; ++w) {
+      long thisWord = (w < thisWords.length ? thisWords[w] : 0L);
+      long otherWord = (w < otherWords.length ? otherWords[w] : 0L);
+      for (long union = thisWord | otherWord; union != 0; union &= union - 1) {
+        long bit = Long.lowestOneBit(union);
+        int index = (w << 6) + Long.numberOfTrailingZeros(union);
+        if ((thisWord & bit) == 0)
+          consumer.added(index, other.array[index].getValue());
+        else if ((otherWord & bit) == 0)
+          consumer.removed(index, array[index].getValue());
+        else {
+          E oldValue = array[index].getValue();
+          E newValue = other.array[index].getValue();
+          if (!equivalence.equivalent(oldValue, newValue))
+            consumer.changed(index, oldValue, newValue);
+        }
+      }
+    }
+  }
+
   public Map<Integer, E> toMap() {
     return toMap(HashMap::new);
   }
 
   public Map<Integer, E> toMap(@NonNull IntFunction<? extends Map<Integer, E>> factory) {
     Map<Integer, E> map = factory.apply(size());
-    for (int i = 0; i < array.length; ++i) {
-      Entry<E> entry = array[i];
-      if (entry != null)
-        map.put(i, entry.getValue());
-    }
+    forEach(map::put);
     return map;
   }
 
@@ -263,55 +483,201 @@ public class IndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
     if (copyThisArray && array.length != 0 && newCapacity != 0)
       System.arraycopy(array, 0, newArray, 0, Math.min(array.length, newCapacity));
     this.array = newArray;
+    this.occupied = (copyThisArray
+        ? IndexBits.resize(occupied, newCapacity)
+        : IndexBits.create(newCapacity));
   }
 
   private int calculateNewCapacity(int newCapacity) {
     return (int) Math.ceil(newCapacity * 1.5);
   }
 
+  private void shrinkIfRequested() {
+    int capacity = capacity();
+    if (capacity <= initialCapacity || shrinkPolicy == ShrinkPolicy.NEVER)
+      return;
+    int requiredCapacity = 1 + lastIndex();
+    if (shrinkPolicy.shouldShrink(capacity, requiredCapacity)) {
+      // growing the new capacity in the same way a put does, leaves headroom above the highest
+      // index, which (together with the policy's ratio) acts as hysteresis against thrashing
+      int newCapacity = Math.max(initialCapacity, calculateNewCapacity(requiredCapacity));
+      if (newCapacity < capacity)
+        resizeToCapacity0(newCapacity, true);
+    }
+  }
+
   @Override
   public @NonNull Iterator<Entry<E>> iterator() {
     return new Iterator<>() {
 
-      int cursor = 0;
-      Boolean hasNext;
+      int cursor = firstIndex();
 
       @Override
       public boolean hasNext() {
-        if (hasNext != null)
-          return hasNext;
-        for (int i = cursor; i < array.length; ++i)
-          if (array[i] != null)
-            return hasNext = Boolean.TRUE;
-        return hasNext = Boolean.FALSE;
+        return cursor != INDEX_NOT_FOUND;
       }
 
       @Override
       public Entry<E> next() {
-        hasNext = null;
-        while (cursor < array.length) {
-          int i = cursor++;
-          Entry<E> entry = array[i];
-          if (entry != null)
-            return entry;
-        }
-        throw new NoSuchElementException();
+        if (cursor == INDEX_NOT_FOUND)
+          throw new NoSuchElementException();
+        Entry<E> entry = array[cursor];
+        cursor = nextIndex(cursor);
+        return entry;
       }
     };
   }
 
+  /**
+   * Returns a spliterator over the entries of this map, that splits on index ranges. The
+   * spliterator is {@code SIZED} and {@code SUBSIZED}, as the amount of entries within each
+   * range is counted from the occupancy bitset, making it suitable for parallel streams.
+   * <p>The spliterator is bound to the current backing array, thus this map must not be
+   * structurally modified while it is in use.
+   */
+  @Override
+  public @NonNull Spliterator<Entry<E>> spliterator() {
+    return new EntrySpliterator<>(array, new IndexSpliterator(occupied, 0, capacity()));
+  }
+
+  /** Returns a sequential stream over the entries of this map, in ascending index order */
+  public @NonNull Stream<Entry<E>> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /** Returns a possibly parallel stream over the entries of this map */
+  public @NonNull Stream<Entry<E>> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /** Returns a sequential stream over the occupied indices of this map, in ascending order */
+  public @NonNull IntStream indices() {
+    return StreamSupport.intStream(new IndexSpliterator(occupied, 0, capacity()), false);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public IndexMap<E> clone() {
     try {
       IndexMap<E> clone = (IndexMap<E>) super.clone();
       clone.array = array.clone();
+      clone.occupied = occupied.clone();
+      if (dirty != null) clone.dirty = dirty.clone();
       return clone;
     } catch (CloneNotSupportedException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /** Spliterator over the entries at the indices yielded by an {@link IndexSpliterator} */
+  private static final class EntrySpliterator<E> implements Spliterator<Entry<E>> {
+
+    private final Entry<E>[] array;
+
+    private final IndexSpliterator indices;
+
+    EntrySpliterator(Entry<E>[] array, IndexSpliterator indices) {
+      this.array = array;
+      this.indices = indices;
+    }
+
+    @Override
+    public boolean tryAdvance(@NonNull Consumer<? super Entry<E>> action) {
+      Preconditions.checkNotNull(action, "Action must not be null");
+      return indices.tryAdvance((int index) -> action.accept(array[index]));
+    }
+
+    @Override
+    public void forEachRemaining(@NonNull Consumer<? super Entry<E>> action) {
+      Preconditions.checkNotNull(action, "Action must not be null");
+      indices.forEachRemaining((int index) -> action.accept(array[index]));
+    }
+
+    @Override
+    public @Nullable Spliterator<Entry<E>> trySplit() {
+      IndexSpliterator prefix = indices.trySplit();
+      return (prefix != null ? new EntrySpliterator<>(array, prefix) : null);
+    }
+
+    @Override
+    public long estimateSize() {
+      return indices.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL;
+    }
+  }
+
+  /**
+   * Receiver of the differences between two index maps.
+   *
+   * @see #diff(IndexMap, DiffConsumer, Equivalence)
+   */
+  public interface DiffConsumer<E> {
+
+    /** Returns a consumer that reports the index of every difference to {@code action} */
+    static <E> DiffConsumer<E> ofIndices(@NonNull IntConsumer action) {
+      Preconditions.checkNotNull(action, "Action must not be null");
+      return new DiffConsumer<>() {
+        @Override
+        public void added(int index, E value) {
+          action.accept(index);
+        }
+
+        @Override
+        public void removed(int index, E oldValue) {
+          action.accept(index);
+        }
+
+        @Override
+        public void changed(int index, E oldValue, E newValue) {
+          action.accept(index);
+        }
+      };
+    }
+
+    /** Called for an index that is only occupied in the current map */
+    default void added(int index, E value) {}
+
+    /** Called for an index that is only occupied in the previous map */
+    default void removed(int index, E oldValue) {}
+
+    /** Called for an index that is occupied in both maps, with non-equivalent values */
+    default void changed(int index, E oldValue, E newValue) {}
+  }
+
+  /**
+   * Policy that decides whether an index map should shrink its capacity, after its highest
+   * occupied index has been removed.
+   */
+  @FunctionalInterface
+  public interface ShrinkPolicy {
+
+    /** Policy that never shrinks, thus only {@code clear} and {@code trimToSize} shrink */
+    ShrinkPolicy NEVER = (capacity, requiredCapacity) -> false;
+
+    /** Policy that shrinks once the required capacity drops below a quarter of the capacity */
+    ShrinkPolicy DEFAULT = ofRatio(0.25f);
+
+    /**
+     * Returns true if a map with {@code capacity} should shrink, given that its highest
+     * occupied index requires a capacity of {@code requiredCapacity}.
+     */
+    boolean shouldShrink(int capacity, int requiredCapacity);
+
+    /**
+     * Returns a policy that shrinks once the required capacity drops below {@code ratio} times
+     * the current capacity. The ratio must not exceed {@code 0.5}, to leave room between the
+     * shrink and the grow threshold, so that put/remove near either threshold cannot thrash.
+     */
+    static ShrinkPolicy ofRatio(float ratio) {
+      Preconditions.checkArgument(ratio > 0 && ratio <= 0.5f, "Ratio must be within (0, 0.5]");
+      return (capacity, requiredCapacity) -> requiredCapacity < capacity * ratio;
+    }
+  }
+
   public static final class Entry<E> {
     private final int index;
     private Object object;
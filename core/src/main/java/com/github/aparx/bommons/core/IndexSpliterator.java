@@ -0,0 +1,102 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterator over the set bits of an occupancy bitset (see {@link IndexBits}), that splits on
+ * index ranges.
+ * <p>The amount of remaining indices is always exact, as it is derived from the bitset's
+ * cardinality, thus this spliterator and all of its splits are {@code SIZED} and
+ * {@code SUBSIZED}. Splits are aligned to word boundaries, so that no two splits ever share a
+ * word of the bitset.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:05
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+final class IndexSpliterator implements Spliterator.OfInt {
+
+  private static final int CHARACTERISTICS =
+      ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL;
+
+  private final long[] words;
+
+  private final int fence;
+
+  /** The next index to be examined */
+  private int origin;
+
+  private int remaining;
+
+  /**
+   * @param origin the lowest index covered, inclusive
+   * @param fence  the highest index covered, exclusive, at most the bitset's bit count
+   */
+  IndexSpliterator(long[] words, int origin, int fence) {
+    this.words = words;
+    this.origin = origin;
+    this.fence = fence;
+    this.remaining = IndexBits.cardinality(words, origin, fence);
+  }
+
+  @Override
+  public @Nullable IndexSpliterator trySplit() {
+    int mid = ((origin + fence) >>> 1) & -Long.SIZE;
+    if (mid <= origin || remaining < 2)
+      return null;
+    IndexSpliterator prefix = new IndexSpliterator(words, origin, mid);
+    this.origin = mid;
+    this.remaining -= prefix.remaining;
+    return prefix;
+  }
+
+  @Override
+  public boolean tryAdvance(IntConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    int index = IndexBits.nextSetBit(words, origin);
+    if (index == IndexBits.NO_INDEX || index >= fence) {
+      origin = fence;
+      return false;
+    }
+    origin = 1 + index;
+    --remaining;
+    action.accept(index);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    int index = IndexBits.nextSetBit(words, origin);
+    origin = fence;
+    remaining = 0;
+    while (index != IndexBits.NO_INDEX && index < fence) {
+      action.accept(index);
+      index = IndexBits.nextSetBit(words, 1 + index);
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    return remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  @Override
+  public @Nullable Comparator<? super Integer> getComparator() {
+    return null; // natural order
+  }
+
+}
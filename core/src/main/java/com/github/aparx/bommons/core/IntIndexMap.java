@@ -0,0 +1,299 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Primitive specialization of {@link IndexMap}, that associates {@code int} values to indices.
+ * <p>Values are stored in a flat {@code int} array next to a presence bitset, thus this map
+ * neither allocates an entry nor boxes a value per element. Iteration is allocation free when
+ * using {@link #forEach(EntryConsumer)} or a {@link #cursor() cursor}.
+ * <p>Since there is no {@code null} for primitives, lookups of absent indices return
+ * {@code 0}, or an explicitly given default value for {@link #getOrDefault(int, int)}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 09:40
+ * @see IndexMap
+ * @see LongIndexMap
+ * @see DoubleIndexMap
+ * @since 1.0
+ */
+public class IntIndexMap implements Cloneable {
+
+  private static final int NO_VALUE = 0;
+
+  private final int initialCapacity;
+
+  private transient int[] array;
+
+  /** Bitset of occupied indices, where each bit represents one index of {@code array} */
+  private transient long[] present;
+
+  private transient int elementCount;
+
+  public IntIndexMap() {
+    this(IndexMap.DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public IntIndexMap(int initialCapacity) {
+    this.initialCapacity = Math.max(initialCapacity, 0);
+    this.array = new int[this.initialCapacity];
+    this.present = IndexBits.create(this.initialCapacity);
+  }
+
+  public IntIndexMap(@NonNull IntIndexMap other) {
+    this.initialCapacity = other.capacity();
+    this.array = other.array.clone();
+    this.present = other.present.clone();
+    this.elementCount = other.elementCount;
+  }
+
+  @Pure
+  public final @NonNegative int capacity() {
+    return array.length;
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return elementCount;
+  }
+
+  public void clear() {
+    int previousCapacity = capacity();
+    resizeToCapacity0(initialCapacity, false);
+    if (capacity() == previousCapacity) {
+      Arrays.fill(array, NO_VALUE);
+      Arrays.fill(present, 0L);
+    }
+    elementCount = 0;
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > capacity())
+      resizeToCapacity0(capacity, true);
+  }
+
+  /** Returns the value associated to {@code index}, or {@code 0} if there is none */
+  public int get(int index) {
+    return getOrDefault(index, NO_VALUE);
+  }
+
+  public int getOrDefault(int index, int defaultValue) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    return (containsKey(index) ? array[index] : defaultValue);
+  }
+
+  /**
+   * Associates {@code value} to {@code index} and returns the previous value, or {@code 0} if
+   * the index was not occupied before.
+   */
+  @CanIgnoreReturnValue
+  public int put(int index, int value) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    if (index >= capacity())
+      resizeToCapacity0(calculateNewCapacity(1 + index), true);
+    int previousValue = array[index];
+    array[index] = value;
+    if (!IndexBits.get(present, index)) {
+      IndexBits.set(present, index);
+      ++elementCount;
+    }
+    return previousValue;
+  }
+
+  public void putAll(int @NonNull [] array, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    ensureCapacity(indexOffset + array.length);
+    putRange(array, 0, indexOffset, array.length);
+  }
+
+  public void putAll(int @NonNull [] array) {
+    putAll(array, 0);
+  }
+
+  /**
+   * Puts all entries of {@code map} into this map, with their indices shifted by
+   * {@code indexOffset}. The capacity is ensured once, after which each run of consecutively
+   * occupied indices of {@code map} is transferred as a single block copy.
+   */
+  public void putAll(@NonNull IntIndexMap map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    if (map == this) map = clone();
+    long[] words = map.present;
+    int endIndex = 1 + IndexBits.lastSetBit(words);
+    ensureCapacity(indexOffset + endIndex);
+    int start = IndexBits.nextSetBit(words, 0);
+    while (start != IndexBits.NO_INDEX) {
+      int end = Math.min(IndexBits.nextClearBit(words, start), endIndex);
+      putRange(map.array, start, indexOffset + start, end - start);
+      start = IndexBits.nextSetBit(words, end);
+    }
+  }
+
+  public void putAll(@NonNull IntIndexMap map) {
+    putAll(map, 0);
+  }
+
+  /** Removes the value associated to {@code index} and returns it, or {@code 0} if absent */
+  @CanIgnoreReturnValue
+  public int remove(int index) {
+    if (!containsKey(index))
+      return NO_VALUE;
+    int previousValue = array[index];
+    array[index] = NO_VALUE;
+    IndexBits.clear(present, index);
+    --elementCount;
+    return previousValue;
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(int index, int value) {
+    if (!contains(index, value))
+      return false;
+    remove(index);
+    return true;
+  }
+
+  public boolean containsKey(int index) {
+    return index >= 0 && index < capacity() && IndexBits.get(present, index);
+  }
+
+  public boolean containsValue(int value) {
+    return indexOf(value) != IndexBits.NO_INDEX;
+  }
+
+  public boolean contains(int index, int value) {
+    return containsKey(index) && array[index] == value;
+  }
+
+  @CheckReturnValue
+  public int indexOf(int value) {
+    for (int i = IndexBits.nextSetBit(present, 0); i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+      if (array[i] == value) return i;
+    return IndexBits.NO_INDEX;
+  }
+
+  @CheckReturnValue
+  public int lastIndexOf(int value) {
+    int i = IndexBits.lastSetBit(present);
+    for (; i >= 0; i = IndexBits.previousSetBit(present, i - 1))
+      if (array[i] == value) return i;
+    return IndexBits.NO_INDEX;
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, without allocating */
+  public void forEach(@NonNull EntryConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int i = IndexBits.nextSetBit(present, 0); i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+      action.accept(i, array[i]);
+  }
+
+  /**
+   * Returns a new cursor that iterates over all occupied indices in ascending order. The cursor
+   * is the only allocation, thus iterating does not allocate anything per element.
+   */
+  public @NonNull Cursor cursor() {
+    return new Cursor();
+  }
+
+  public Map<Integer, Integer> toMap() {
+    return toMap(HashMap::new);
+  }
+
+  public Map<Integer, Integer> toMap(
+      @NonNull IntFunction<? extends Map<Integer, Integer>> factory) {
+    Map<Integer, Integer> map = factory.apply(size());
+    forEach(map::put);
+    return map;
+  }
+
+  /** Copies {@code length} values into the occupied range, requiring it to be in capacity */
+  private void putRange(int[] source, int sourceIndex, int index, int length) {
+    System.arraycopy(source, sourceIndex, array, index, length);
+    elementCount += length - IndexBits.cardinality(present, index, index + length);
+    IndexBits.setRange(present, index, index + length);
+  }
+
+  private void resizeToCapacity0(int newCapacity, boolean copyThisArray) {
+    if (capacity() == newCapacity)
+      return;
+    if (copyThisArray) {
+      this.array = Arrays.copyOf(array, newCapacity);
+      this.present = IndexBits.resize(present, newCapacity);
+    } else {
+      this.array = new int[newCapacity];
+      this.present = IndexBits.create(newCapacity);
+    }
+  }
+
+  private int calculateNewCapacity(int newCapacity) {
+    return (int) Math.ceil(newCapacity * 1.5);
+  }
+
+  @Override
+  public IntIndexMap clone() {
+    try {
+      IntIndexMap clone = (IntIndexMap) super.clone();
+      clone.array = array.clone();
+      clone.present = present.clone();
+      return clone;
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(int index, int value);
+  }
+
+  /**
+   * Reusable, forward-only view over the occupied indices of this map.
+   * <p>A cursor initially sits before the first index; {@link #next()} has to be called before
+   * accessing the {@link #index()} or {@link #value()}.
+   */
+  public final class Cursor {
+
+    private int index = IndexBits.NO_INDEX;
+    private int nextFrom = 0;
+
+    private Cursor() {}
+
+    /** Moves to the next occupied index and returns true, or false if there is none */
+    public boolean next() {
+      index = (nextFrom < capacity()
+          ? IndexBits.nextSetBit(present, nextFrom)
+          : IndexBits.NO_INDEX);
+      nextFrom = (index != IndexBits.NO_INDEX ? 1 + index : Integer.MAX_VALUE);
+      return index != IndexBits.NO_INDEX;
+    }
+
+    public int index() {
+      Preconditions.checkState(index != IndexBits.NO_INDEX, "Cursor is not on an entry");
+      return index;
+    }
+
+    public int value() {
+      return array[index()];
+    }
+
+    public void setValue(int value) {
+      array[index()] = value;
+    }
+
+    /** Removes the current entry from the map, leaving the cursor ready for the next entry */
+    public void remove() {
+      IntIndexMap.this.remove(index());
+      index = IndexBits.NO_INDEX;
+    }
+  }
+
+}
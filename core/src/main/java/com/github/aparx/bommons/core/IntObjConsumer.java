@@ -0,0 +1,18 @@
+package com.github.aparx.bommons.core;
+
+/**
+ * Represents an operation that accepts an {@code int}-valued index and an object-valued
+ * argument, and returns no result. This is the {@code (int, reference)} specialization of
+ * {@link java.util.function.BiConsumer}, used to iterate index maps without boxing indices.
+ *
+ * @param <T> the type of the object argument
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 10:48
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+
+  void accept(int index, T value);
+
+}
@@ -0,0 +1,19 @@
+package com.github.aparx.bommons.core;
+
+/**
+ * Represents a function that accepts an {@code int}-valued index and an object-valued argument,
+ * and produces a result. This is the {@code (int, reference)} specialization of
+ * {@link java.util.function.BiFunction}, used to remap values of index maps without boxing.
+ *
+ * @param <T> the type of the object argument
+ * @param <R> the type of the result
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 12:34
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface IntObjFunction<T, R> {
+
+  R apply(int index, T value);
+
+}
@@ -0,0 +1,18 @@
+package com.github.aparx.bommons.core;
+
+/**
+ * Represents an operation that accepts a {@code long}-valued key and an object-valued
+ * argument, and returns no result. This is the {@code (long, reference)} specialization of
+ * {@link java.util.function.BiConsumer}, used to iterate long-keyed maps without boxing keys.
+ *
+ * @param <T> the type of the object argument
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:50
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface LongObjConsumer<T> {
+
+  void accept(long key, T value);
+
+}
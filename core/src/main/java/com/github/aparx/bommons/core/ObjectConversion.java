@@ -1,5 +1,12 @@
 package com.github.aparx.bommons.core;
 
+import com.google.common.collect.Collections2;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Streams;
+import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.MemorySection;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -8,6 +15,7 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 /**
  * @author aparx (Vinzent Z.)
@@ -26,13 +34,31 @@ public final class ObjectConversion {
 
   // +------------------ Enum conversions ------------------+
 
+  /**
+   * Converts {@code object} to a constant of {@code enumType}, by matching its string
+   * representation case-insensitively, where spaces equal underscores.
+   *
+   * @throws IllegalArgumentException if no constant matches
+   * @see EnumLookup
+   */
   public static <E extends Enum<E>> E toEnum(Class<E> enumType, Object object) {
     if (enumType.isInstance(object))
       return enumType.cast(object);
-    String stringValue = object.toString().trim();
-    stringValue = stringValue.toUpperCase();
-    stringValue = stringValue.replace(' ', '_');
-    return Enum.valueOf(enumType, stringValue);
+    return EnumLookup.of(enumType).valueOf(toCharSequence(object));
+  }
+
+  /** Same as {@link #toEnum(Class, Object)}, but returns null if no constant matches */
+  public static <E extends Enum<E>> @Nullable E tryToEnum(Class<E> enumType,
+                                                         @Nullable Object object) {
+    if (object == null)
+      return null;
+    if (enumType.isInstance(object))
+      return enumType.cast(object);
+    return EnumLookup.of(enumType).find(toCharSequence(object));
+  }
+
+  private static CharSequence toCharSequence(Object object) {
+    return (object instanceof CharSequence ? (CharSequence) object : object.toString());
   }
 
   public static <E extends Enum<E>, R extends Collection<E>>
@@ -51,6 +77,20 @@ public final class ObjectConversion {
     return toEnumCollection(enumType, objects, ArrayList::new);
   }
 
+  /** Converts all non-null {@code objects} into an {@link EnumSet} of {@code enumType} */
+  public static <E extends Enum<E>>
+  EnumSet<E> toEnumSet(Class<E> enumType, Iterable<@Nullable ?> objects) {
+    EnumSet<E> set = EnumSet.noneOf(enumType);
+    EnumLookup<E> lookup = EnumLookup.of(enumType);
+    for (Object object : objects) {
+      if (object == null) continue;
+      set.add(enumType.isInstance(object)
+          ? enumType.cast(object)
+          : lookup.valueOf(toCharSequence(object)));
+    }
+    return set;
+  }
+
   // +------------------ Collection conversions ------------------+
 
   public static <R extends Collection<@Nullable String>>
@@ -102,6 +142,225 @@ public final class ObjectConversion {
       collection.add(Objects.toString(iterator.next(), null));
   }
 
+  // +------------------ Lazy views ------------------+
+
+  /**
+   * Returns an unmodifiable list view of the string representations of the elements of
+   * {@code object}, which must be a list or an array. Elements are converted on access, thus
+   * the view reflects changes of the underlying object. Other collection-like objects, such as
+   * a {@code MemorySection}, are copied as if by {@link #objectToStringList(Object)}.
+   */
+  public static List<@Nullable String> asStringList(Object object) {
+    if (object instanceof List)
+      return Lists.transform((List<?>) object, ObjectConversion::toStringOrNull);
+    if (object instanceof Object[])
+      return Lists.transform(Arrays.asList((Object[]) object), ObjectConversion::toStringOrNull);
+    return Collections.unmodifiableList(objectToStringList(object));
+  }
+
+  /**
+   * Returns an unmodifiable collection view of the string representations of the elements of
+   * {@code object}, which may be any object accepted by
+   * {@link #objectToStringCollection(Object, IntFunction)} except for iterators. Elements are
+   * converted on access.
+   */
+  public static Collection<@Nullable String> asStringCollection(Object object) {
+    if (object instanceof MemorySection)
+      return Collections.unmodifiableSet(((MemorySection) object).getKeys(false));
+    if (object instanceof Object[] || object instanceof List)
+      return asStringList(object);
+    if (object instanceof Collection)
+      return Collections2.transform((Collection<?>) object, ObjectConversion::toStringOrNull);
+    if (object instanceof Iterable) {
+      Iterable<?> iterable = (Iterable<?>) object;
+      return new AbstractCollection<>() {
+        @Override
+        public Iterator<@Nullable String> iterator() {
+          return Iterators.transform(iterable.iterator(), ObjectConversion::toStringOrNull);
+        }
+
+        @Override
+        public int size() {
+          return Iterables.size(iterable);
+        }
+      };
+    }
+    throw new IllegalArgumentException("Object is not collection-like");
+  }
+
+  /** Returns a sequential stream of the string representations of the elements of {@code object} */
+  public static Stream<@Nullable String> streamStrings(Object object) {
+    if (object instanceof Iterator)
+      return Streams.stream((Iterator<?>) object).map(ObjectConversion::toStringOrNull);
+    return asStringCollection(object).stream();
+  }
+
+  /**
+   * Returns an unmodifiable map view of {@code object}, which must be a map or a
+   * {@code MemorySection}, with keys converted to strings on access. Other than
+   * {@link #objectToStringObjectMap(Object, IntFunction)}, neither keys nor values are copied.
+   * <p>Lookups in maps whose keys are strings already are delegated, otherwise they go through
+   * an index of the keys' string forms, built on the first lookup. A section is viewed through
+   * its direct children, thus the view reflects changes of the section, but does not resolve
+   * paths to nested values.
+   */
+  public static Map<@Nullable String, @Nullable Object> asStringMapView(Object object) {
+    if (object instanceof MemorySection)
+      return new SectionMapView((MemorySection) object);
+    if (object instanceof Map)
+      return new StringKeyMapView<>((Map<?, ?>) object);
+    throw new IllegalArgumentException("Object is not map-like");
+  }
+
+  /**
+   * Returns an unmodifiable map view of {@code object}, which must be a map or a
+   * {@code MemorySection}, with keys converted to strings and values mapped by
+   * {@code valueMapper} on each access.
+   */
+  public static <@Nullable VOut>
+  Map<@Nullable String, VOut> asStringMapView(Object object,
+                                              Function<@Nullable Object, VOut> valueMapper) {
+    return Maps.transformValues(asStringMapView(object), valueMapper::apply);
+  }
+
+  /** Returns a sequential stream over the entries of {@link #asStringMapView(Object)} */
+  public static Stream<Map.Entry<@Nullable String, @Nullable Object>> streamStringEntries(
+      Object object) {
+    return asStringMapView(object).entrySet().stream();
+  }
+
+  private static @Nullable String toStringOrNull(@Nullable Object object) {
+    return Objects.toString(object, null);
+  }
+
+  /**
+   * Map view of the direct children of a memory section, that does not copy the section's
+   * values. Keys containing the path separator of the section's root are not considered keys
+   * of this view, as they would resolve to values of nested sections.
+   */
+  private static final class SectionMapView
+      extends AbstractMap<@Nullable String, @Nullable Object> {
+
+    private final MemorySection section;
+
+    private final char pathSeparator;
+
+    SectionMapView(MemorySection section) {
+      this.section = section;
+      @Nullable Configuration root = section.getRoot();
+      this.pathSeparator = (root != null ? root.options().pathSeparator() : '.');
+    }
+
+    private boolean isChildKey(@Nullable Object key) {
+      return key instanceof String && ((String) key).indexOf(pathSeparator) < 0;
+    }
+
+    @Override
+    public @Nullable Object get(@Nullable Object key) {
+      return (isChildKey(key) ? section.get((String) key) : null);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+      return isChildKey(key) && section.contains((String) key);
+    }
+
+    /** Returns the entries of the keys at the time of the call, copied once per entry set */
+    @Override
+    public Set<Map.Entry<@Nullable String, @Nullable Object>> entrySet() {
+      Set<String> keys = section.getKeys(false);
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Map.Entry<@Nullable String, @Nullable Object>> iterator() {
+          return Iterators.transform(keys.iterator(),
+              (key) -> new AbstractMap.SimpleImmutableEntry<>(key, section.get(key)));
+        }
+
+        @Override
+        public int size() {
+          return keys.size();
+        }
+      };
+    }
+  }
+
+  /**
+   * Map view, that converts the keys of a map to strings on access. Lookups go directly to the
+   * backing map if all its keys are strings, and otherwise through an index of the string form
+   * of each key to the key itself. Both are determined on the first lookup.
+   */
+  private static final class StringKeyMapView<V>
+      extends AbstractMap<@Nullable String, @Nullable V> {
+
+    private final Map<?, ? extends V> map;
+
+    /** Index of the string form of each key to the key, or null for direct lookups */
+    private @Nullable Map<@Nullable String, @Nullable Object> keyIndex;
+
+    private boolean indexed;
+
+    StringKeyMapView(Map<?, ? extends V> map) {
+      this.map = map;
+    }
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+      if (key != null && !(key instanceof String))
+        return null;
+      Map<@Nullable String, @Nullable Object> keyIndex = keyIndex();
+      if (keyIndex == null)
+        return (key != null ? map.get(key) : null);
+      return (keyIndex.containsKey(key) ? map.get(keyIndex.get(key)) : null);
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+      if (key != null && !(key instanceof String))
+        return false;
+      Map<@Nullable String, @Nullable Object> keyIndex = keyIndex();
+      if (keyIndex == null)
+        return key != null && map.containsKey(key);
+      return keyIndex.containsKey(key);
+    }
+
+    private @Nullable Map<@Nullable String, @Nullable Object> keyIndex() {
+      if (indexed)
+        return keyIndex;
+      indexed = true;
+      for (Object key : map.keySet()) {
+        if (key instanceof String)
+          continue;
+        Map<@Nullable String, @Nullable Object> index = Maps.newHashMapWithExpectedSize(map.size());
+        for (Object indexKey : map.keySet())
+          index.putIfAbsent(toStringOrNull(indexKey), indexKey);
+        return keyIndex = index;
+      }
+      return null;
+    }
+
+    @Override
+    public int size() {
+      return map.size();
+    }
+
+    @Override
+    public Set<Map.Entry<@Nullable String, @Nullable V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Map.Entry<@Nullable String, @Nullable V>> iterator() {
+          return Iterators.transform(map.entrySet().iterator(),
+              (entry) -> new AbstractMap.SimpleImmutableEntry<>(
+                  toStringOrNull(entry.getKey()), entry.getValue()));
+        }
+
+        @Override
+        public int size() {
+          return map.size();
+        }
+      };
+    }
+  }
+
   // +------------------ Map conversions ------------------+
 
   // <?, ?> -> <String, ?>
@@ -0,0 +1,483 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Two-level variant of {@link IndexMap} for huge and sparse index spaces.
+ * <p>Indices are split into a page number and an offset within that page. Pages have a fixed
+ * size, are allocated on demand when the first index of a page is put and released as soon as
+ * the last index of a page is removed. Thus memory usage is bound by the amount of live pages
+ * (plus one reference per page in the page directory), rather than by the highest index put.
+ * Both {@link #get(int)} and {@link #put(int, Object)} stay constant time.
+ * <p>Since there is no backing array that covers all indices, this map has no notion of a
+ * capacity. {@link #get(int)} accepts any non-negative index.
+ * <p>Pages are copy-on-write: {@link #snapshot()}, {@link #clone()} and the copy constructor
+ * share all pages with this map in constant time. The first mutation of a shared page, on
+ * either side, copies only that page (and once the page directory).
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 11:24
+ * @see IndexMap
+ * @since 1.0
+ */
+public class PagedIndexMap<E> implements Iterable<IndexMap.Entry<E>>, Cloneable {
+
+  public static final int DEFAULT_PAGE_SIZE = 1024;
+
+  private static final Page[] EMPTY_DIRECTORY = new Page[0];
+
+  private final int pageShift;
+
+  private final int pageMask;
+
+  private final boolean readOnly;
+
+  private transient Page[] pages = EMPTY_DIRECTORY;
+
+  /** Whether {@code pages} may be shared with another map and thus must be copied on write */
+  private transient boolean sharedDirectory;
+
+  /** Token identifying the pages that are exclusively owned and thus writable by this map */
+  private transient Object owner = new Object();
+
+  private transient int elementCount;
+
+  private transient int pageCount;
+
+  public PagedIndexMap() {
+    this(DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Allocates a new paged map, whose pages each cover {@code pageSize} indices.
+   *
+   * @param pageSize the amount of indices per page, which must be a power of two
+   */
+  public PagedIndexMap(int pageSize) {
+    Preconditions.checkArgument(pageSize > 0 && Integer.bitCount(pageSize) == 1,
+        "Page size must be a power of two");
+    this.pageShift = Integer.numberOfTrailingZeros(pageSize);
+    this.pageMask = pageSize - 1;
+    this.readOnly = false;
+  }
+
+  public PagedIndexMap(@NonNull Map<Integer, ? extends E> map) {
+    this();
+    putAll(map);
+  }
+
+  public PagedIndexMap(@NonNull PagedIndexMap<E> other) {
+    this(other, false);
+  }
+
+  private PagedIndexMap(PagedIndexMap<E> other, boolean readOnly) {
+    this.pageShift = other.pageShift;
+    this.pageMask = other.pageMask;
+    this.readOnly = readOnly;
+    this.pages = other.pages;
+    this.sharedDirectory = true;
+    this.elementCount = other.elementCount;
+    this.pageCount = other.pageCount;
+    other.share();
+  }
+
+  /**
+   * Returns an immutable snapshot of the current state of this map in constant time.
+   * <p>The snapshot shares all pages with this map. Subsequent mutations of this map copy each
+   * touched page once, leaving the snapshot unaffected. All mutating operations of the
+   * returned snapshot throw {@link UnsupportedOperationException}.
+   */
+  @CheckReturnValue
+  public PagedIndexMap<E> snapshot() {
+    return (readOnly ? this : new PagedIndexMap<>(this, true));
+  }
+
+  /** Returns true if this map is a read-only {@link #snapshot() snapshot} */
+  @Pure
+  public final boolean isSnapshot() {
+    return readOnly;
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return elementCount;
+  }
+
+  /** Returns the amount of pages currently allocated */
+  @Pure
+  public final @NonNegative int pageCount() {
+    return pageCount;
+  }
+
+  @Pure
+  public final @NonNegative int pageSize() {
+    return 1 << pageShift;
+  }
+
+  public void clear() {
+    checkWritable();
+    pages = EMPTY_DIRECTORY;
+    sharedDirectory = false;
+    elementCount = 0;
+    pageCount = 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable E get(int index) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    int pageIndex = index >>> pageShift;
+    if (pageIndex >= pages.length)
+      return null;
+    Page page = pages[pageIndex];
+    return (page != null ? (E) page.values[index & pageMask] : null);
+  }
+
+  @CanIgnoreReturnValue
+  public @Nullable E put(IndexMap.@NonNull Entry<E> entry) {
+    Preconditions.checkNotNull(entry, "Entry must not be null");
+    return put(entry.getIndex(), entry.getValue());
+  }
+
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E put(int index, E value) {
+    Preconditions.checkArgument(index >= 0, "Index must be positive");
+    checkWritable();
+    int pageIndex = index >>> pageShift;
+    if (pageIndex >= pages.length) {
+      pages = Arrays.copyOf(pages, calculateNewDirectorySize(1 + pageIndex));
+      sharedDirectory = false;
+    }
+    Page page = pages[pageIndex];
+    if (page == null) {
+      page = writableDirectory()[pageIndex] = new Page(pageSize(), owner);
+      ++pageCount;
+    } else if (page.owner != owner) {
+      page = writableDirectory()[pageIndex] = new Page(page, owner);
+    }
+    int offset = index & pageMask;
+    Object previousValue = page.values[offset];
+    page.values[offset] = value;
+    if (!IndexBits.get(page.present, offset)) {
+      IndexBits.set(page.present, offset);
+      ++page.count;
+      ++elementCount;
+    }
+    return (E) previousValue;
+  }
+
+  public void putAll(@NonNull Map<@NonNull Integer, ? extends E> map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    for (Map.Entry<Integer, ? extends E> entry : map.entrySet())
+      put(indexOffset + Objects.requireNonNull(entry.getKey()), entry.getValue());
+  }
+
+  public void putAll(@NonNull Map<@NonNull Integer, ? extends E> map) {
+    putAll(map, 0);
+  }
+
+  public void putAll(E @NonNull [] array, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    for (int i = 0, len = array.length; i < len; ++i)
+      put(indexOffset + i, array[i]);
+  }
+
+  public void putAll(E @NonNull [] array) {
+    putAll(array, 0);
+  }
+
+  public void putAll(@NonNull Iterable<? extends E> iterable, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    Iterator<? extends E> iterator = iterable.iterator();
+    for (int i = 0; iterator.hasNext(); ++i)
+      put(indexOffset + i, iterator.next());
+  }
+
+  public void putAll(@NonNull Iterable<? extends E> iterable) {
+    putAll(iterable, 0);
+  }
+
+  public void putAll(@NonNull PagedIndexMap<? extends E> map, int indexOffset) {
+    Preconditions.checkArgument(indexOffset >= 0, "indexOffset must be zero or positive");
+    map.forEach((index, value) -> put(indexOffset + index, value));
+  }
+
+  public void putAll(@NonNull PagedIndexMap<? extends E> map) {
+    putAll(map, 0);
+  }
+
+  /** Removes the value at {@code index} and releases its page, if it became empty */
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable E remove(int index) {
+    checkWritable();
+    if (!containsKey(index))
+      return null;
+    int pageIndex = index >>> pageShift;
+    Page page = pages[pageIndex];
+    int offset = index & pageMask;
+    Object previousValue = page.values[offset];
+    --elementCount;
+    if (page.count == 1) {
+      writableDirectory()[pageIndex] = null;
+      --pageCount;
+    } else {
+      if (page.owner != owner)
+        page = writableDirectory()[pageIndex] = new Page(page, owner);
+      --page.count;
+      page.values[offset] = null;
+      IndexBits.clear(page.present, offset);
+    }
+    return (E) previousValue;
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(int index, Object value) {
+    if (!contains(index, value))
+      return false;
+    remove(index);
+    return true;
+  }
+
+  public boolean containsKey(int index) {
+    if (index < 0) return false;
+    int pageIndex = index >>> pageShift;
+    if (pageIndex >= pages.length) return false;
+    Page page = pages[pageIndex];
+    return page != null && IndexBits.get(page.present, index & pageMask);
+  }
+
+  public boolean containsValue(Object value) {
+    return indexOf(value) != IndexBits.NO_INDEX;
+  }
+
+  public boolean contains(int index, Object value) {
+    return containsKey(index) && Objects.equals(get(index), value);
+  }
+
+  @CheckReturnValue
+  public int indexOf(Object value) {
+    for (int p = 0, len = pages.length; p < len; ++p) {
+      Page page = pages[p];
+      if (page == null) continue;
+      long[] present = page.present;
+      int i = IndexBits.nextSetBit(present, 0);
+      for (; i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+        if (Objects.equals(value, page.values[i]))
+          return (p << pageShift) | i;
+    }
+    return IndexBits.NO_INDEX;
+  }
+
+  @CheckReturnValue
+  public int lastIndexOf(Object value) {
+    for (int p = pages.length - 1; p >= 0; --p) {
+      Page page = pages[p];
+      if (page == null) continue;
+      long[] present = page.present;
+      int i = IndexBits.lastSetBit(present);
+      for (; i >= 0; i = IndexBits.previousSetBit(present, i - 1))
+        if (Objects.equals(value, page.values[i]))
+          return (p << pageShift) | i;
+    }
+    return IndexBits.NO_INDEX;
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, without allocating */
+  @SuppressWarnings("unchecked")
+  public void forEach(@NonNull IntObjConsumer<? super E> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int p = 0; p < pages.length; ++p) {
+      Page page = pages[p];
+      if (page == null) continue;
+      long[] present = page.present;
+      int base = p << pageShift;
+      int i = IndexBits.nextSetBit(present, 0);
+      for (; i >= 0; i = IndexBits.nextSetBit(present, 1 + i))
+        action.accept(base | i, (E) page.values[i]);
+    }
+  }
+
+  /**
+   * Reports all differences between this map (the previous state) and {@code other} (the
+   * current state) to {@code consumer}, comparing values using {@link Object#equals(Object)}.
+   *
+   * @see #diff(PagedIndexMap, IndexMap.DiffConsumer, Equivalence)
+   */
+  public void diff(@NonNull PagedIndexMap<? extends E> other,
+                   IndexMap.@NonNull DiffConsumer<? super E> consumer) {
+    diff(other, consumer, Equivalence.equals());
+  }
+
+  /**
+   * Reports all differences between this map (the previous state) and {@code other} (the
+   * current state) to {@code consumer}, in ascending index order.
+   * <p>Pages that both maps still share, because neither map wrote to it since a
+   * {@link #snapshot()} or clone was taken, are known to be unchanged and skipped entirely.
+   * Thus diffing a snapshot against its live map only costs as much as the pages touched
+   * since the snapshot. Within a page, unoccupied regions are skipped 64 indices at a time.
+   *
+   * @param equivalence the value comparison, such as {@link Equivalence#identity()}
+   * @see IndexMap#diff(IndexMap, IndexMap.DiffConsumer, Equivalence)
+   */
+  @SuppressWarnings("unchecked")
+  public void diff(@NonNull PagedIndexMap<? extends E> other,
+                   IndexMap.@NonNull DiffConsumer<? super E> consumer,
+                   @NonNull Equivalence<? super E> equivalence) {
+    Preconditions.checkNotNull(other, "Other map must not be null");
+    Preconditions.checkNotNull(consumer, "Consumer must not be null");
+    Preconditions.checkNotNull(equivalence, "Equivalence must not be null");
+    Preconditions.checkArgument(pageShift == other.pageShift, "Page sizes differ");
+    Page[] thisPages = pages, otherPages = other.pages;
+    for (int p = 0, len = Math.max(thisPages.length, otherPages.length); p < len; ++p) {
+      Page thisPage = (p < thisPages.length ? thisPages[p] : null);
+      Page otherPage = (p < otherPages.length ? otherPages[p] : null);
+      if (thisPage == otherPage) continue;
+      int base = p << pageShift;
+      for (int w = 0, words = IndexBits.wordCount(pageSize()); w < words; ++w) {
+        long thisWord = (thisPage != null ? thisPage.present[w] : 0L);
+        long otherWord = (otherPage != null ? otherPage.present[w] : 0L);
+        for (long union = thisWord | otherWord; union != 0; union &= union - 1) {
+          long bit = Long.lowestOneBit(union);
+          int offset = (w << 6) + Long.numberOfTrailingZeros(union);
+          if ((thisWord & bit) == 0)
+            consumer.added(base | offset, (E) otherPage.values[offset]);
+          else if ((otherWord & bit) == 0)
+            consumer.removed(base | offset, (E) thisPage.values[offset]);
+          else {
+            E oldValue = (E) thisPage.values[offset];
+            E newValue = (E) otherPage.values[offset];
+            if (!equivalence.equivalent(oldValue, newValue))
+              consumer.changed(base | offset, oldValue, newValue);
+          }
+        }
+      }
+    }
+  }
+
+  public Map<Integer, E> toMap() {
+    return toMap(HashMap::new);
+  }
+
+  public Map<Integer, E> toMap(@NonNull IntFunction<? extends Map<Integer, E>> factory) {
+    Map<Integer, E> map = factory.apply(size());
+    forEach(map::put);
+    return map;
+  }
+
+  private int calculateNewDirectorySize(int newSize) {
+    // computed in long, as the page count overflows an int for a page size of one
+    long maxSize = Math.min(1L + (Integer.MAX_VALUE >>> pageShift), Integer.MAX_VALUE);
+    return (int) Math.min((long) Math.ceil(newSize * 1.5), maxSize);
+  }
+
+  private void checkWritable() {
+    if (readOnly)
+      throw new UnsupportedOperationException("Snapshot is immutable");
+  }
+
+  private Page[] writableDirectory() {
+    if (sharedDirectory) {
+      pages = pages.clone();
+      sharedDirectory = false;
+    }
+    return pages;
+  }
+
+  /** Gives up ownership of all current pages and the directory, since they are now shared */
+  private void share() {
+    if (readOnly) return;
+    owner = new Object();
+    sharedDirectory = true;
+  }
+
+  /**
+   * Returns an iterator over detached entry views of this map. Each call to {@code next()}
+   * allocates a new entry, thus prefer {@link #forEach(IntObjConsumer)} on hot paths.
+   */
+  @Override
+  public @NonNull Iterator<IndexMap.Entry<E>> iterator() {
+    return new Iterator<>() {
+
+      int pageIndex = -1;
+      int offset = IndexBits.NO_INDEX;
+
+      {
+        advance();
+      }
+
+      private void advance() {
+        while (pageIndex < pages.length) {
+          Page page = (pageIndex >= 0 ? pages[pageIndex] : null);
+          if (page != null) {
+            offset = IndexBits.nextSetBit(page.present, 1 + offset);
+            if (offset != IndexBits.NO_INDEX) return;
+          }
+          ++pageIndex;
+          offset = IndexBits.NO_INDEX;
+        }
+      }
+
+      @Override
+      public boolean hasNext() {
+        return pageIndex < pages.length;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public IndexMap.Entry<E> next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        IndexMap.Entry<E> entry = IndexMap.Entry.of(
+            (pageIndex << pageShift) | offset, (E) pages[pageIndex].values[offset]);
+        advance();
+        return entry;
+      }
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public PagedIndexMap<E> clone() {
+    try {
+      PagedIndexMap<E> clone = (PagedIndexMap<E>) super.clone();
+      clone.share();
+      share();
+      return clone;
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static final class Page {
+    final Object[] values;
+    final long[] present;
+    final Object owner;
+    int count;
+
+    Page(int pageSize, Object owner) {
+      this.values = new Object[pageSize];
+      this.present = IndexBits.create(pageSize);
+      this.owner = owner;
+    }
+
+    Page(Page other, Object owner) {
+      this.values = other.values.clone();
+      this.present = other.present.clone();
+      this.owner = owner;
+      this.count = other.count;
+    }
+  }
+
+}
@@ -1,7 +1,12 @@
 package com.github.aparx.bommons.core;
 
+import com.google.common.base.Preconditions;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 /**
@@ -17,16 +22,40 @@ public class WeakHashSet<E> extends AbstractSet<E> {
 
   protected final WeakHashMap<E, Object> internalMap;
 
+  /** Listener notified of reclaimed elements, or null if reclamation is not tracked */
+  private final @Nullable CleanupListener cleanupListener;
+
+  private final ReferenceQueue<E> cleanupQueue = new ReferenceQueue<>();
+
+  /** Strongly holds all cleanup references, as unreachable references are never enqueued */
+  private final Set<CleanupReference<E>> cleanupReferences =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private long expungedCount;
+
   public WeakHashSet() {
     this(DEFAULT_INITIAL_CAPACITY);
   }
 
   public WeakHashSet(int initialCapacity) {
     this.internalMap = new WeakHashMap<>(initialCapacity);
+    this.cleanupListener = null;
   }
 
   public WeakHashSet(int initialCapacity, float loadFactor) {
     this.internalMap = new WeakHashMap<>(initialCapacity, loadFactor);
+    this.cleanupListener = null;
+  }
+
+  /**
+   * Creates a set, that notifies {@code cleanupListener} whenever an element has been
+   * reclaimed by the garbage collector. The listener is called by the thread that performs the
+   * next operation on this set, or calls {@link #expungeStaleEntries()}.
+   */
+  public WeakHashSet(int initialCapacity, @NonNull CleanupListener cleanupListener) {
+    Preconditions.checkNotNull(cleanupListener, "Listener must not be null");
+    this.internalMap = new WeakHashMap<>(initialCapacity);
+    this.cleanupListener = cleanupListener;
   }
 
   public WeakHashSet(@NonNull Collection<? extends E> initialElements) {
@@ -36,29 +65,132 @@ public class WeakHashSet<E> extends AbstractSet<E> {
 
   @Override
   public int size() {
+    expungeStaleEntries();
     return internalMap.size();
   }
 
   @Override
   public boolean add(E e) {
-    return internalMap.putIfAbsent(e, VALUE) == null;
+    return add(e, null);
+  }
+
+  /**
+   * Adds {@code e} to this set, if not already present, and associates {@code attachment} with
+   * it, which is passed to the cleanup listener once {@code e} has been reclaimed. The
+   * attachment must not strongly reference {@code e}, as {@code e} would never be reclaimed.
+   *
+   * @throws IllegalStateException if this set has no cleanup listener and an attachment is given
+   */
+  public boolean add(E e, @Nullable Object attachment) {
+    Preconditions.checkState(attachment == null || cleanupListener != null,
+        "Attachments require a cleanup listener");
+    if (cleanupListener == null || e == null)
+      return internalMap.putIfAbsent(e, VALUE) == null;
+    expungeStaleEntries();
+    if (internalMap.containsKey(e))
+      return false;
+    CleanupReference<E> reference = new CleanupReference<>(e, attachment, cleanupQueue);
+    cleanupReferences.add(reference);
+    internalMap.put(e, reference);
+    return true;
   }
 
   @Override
   public boolean remove(Object o) {
-    return internalMap.remove(o) == VALUE;
+    expungeStaleEntries();
+    Object value = internalMap.remove(o); // values are never null
+    if (value == null)
+      return false;
+    if (value instanceof CleanupReference) {
+      CleanupReference<?> reference = (CleanupReference<?>) value;
+      reference.clear(); // cleared references are never enqueued
+      cleanupReferences.remove(reference);
+    }
+    return true;
   }
 
   @Override
-  @SuppressWarnings("SuspiciousMethodCalls")
   public boolean contains(Object o) {
-    if (o == VALUE) return true;
-    return internalMap.get(o) == VALUE;
+    return internalMap.containsKey(o);
+  }
+
+  @Override
+  public void clear() {
+    for (CleanupReference<E> reference : cleanupReferences)
+      reference.clear();
+    cleanupReferences.clear();
+    internalMap.clear();
   }
 
   @Override
   public @NonNull Iterator<E> iterator() {
-    return internalMap.keySet().iterator();
+    Iterator<E> iterator = internalMap.keySet().iterator();
+    return new Iterator<>() {
+      @Nullable E lastReturned;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public E next() {
+        return lastReturned = iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        Object value = internalMap.get(lastReturned);
+        iterator.remove();
+        if (value instanceof CleanupReference) {
+          ((CleanupReference<?>) value).clear();
+          cleanupReferences.remove(value);
+        }
+      }
+    };
+  }
+
+  /** Returns true if reclaimed elements are reported to a cleanup listener */
+  public boolean isTrackingCleanup() {
+    return cleanupListener != null;
+  }
+
+  /**
+   * Returns the total amount of reclaimed elements, that have been expunged and reported to
+   * the cleanup listener. Always zero if this set has no cleanup listener.
+   */
+  public long getExpungedCount() {
+    return expungedCount;
+  }
+
+  /**
+   * Returns the amount of elements, that have been reclaimed but not yet reported to the cleanup
+   * listener. Always zero if this set has no cleanup listener.
+   */
+  public int getPendingCount() {
+    // null is strongly held by the map and thus never has a cleanup reference
+    int trackedCount = internalMap.size() - (internalMap.containsKey(null) ? 1 : 0);
+    return Math.max(0, cleanupReferences.size() - trackedCount);
+  }
+
+  /**
+   * Reports all reclaimed elements to the cleanup listener, if any.
+   *
+   * @return the amount of elements reported
+   */
+  public int expungeStaleEntries() {
+    if (cleanupListener == null)
+      return 0;
+    int count = 0;
+    for (Reference<? extends E> reference; (reference = cleanupQueue.poll()) != null; ) {
+      CleanupReference<?> cleanupReference = (CleanupReference<?>) reference;
+      if (!cleanupReferences.remove(cleanupReference))
+        continue;
+      ++count;
+      ++expungedCount;
+      cleanupListener.onCleanup(cleanupReference.attachment);
+    }
+    return count;
   }
 
   @Override
@@ -66,12 +198,12 @@ public class WeakHashSet<E> extends AbstractSet<E> {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     WeakHashSet<?> that = (WeakHashSet<?>) o;
-    return Objects.equals(internalMap, that.internalMap);
+    return Objects.equals(internalMap.keySet(), that.internalMap.keySet());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(internalMap);
+    return Objects.hash(internalMap.keySet());
   }
 
   @Override
@@ -80,4 +212,22 @@ public class WeakHashSet<E> extends AbstractSet<E> {
         "internalMap=" + internalMap +
         '}';
   }
+
+  /** Listener notified of elements, that have been reclaimed by the garbage collector */
+  @FunctionalInterface
+  public interface CleanupListener {
+
+    /** @param attachment the attachment given when the element was added, or null */
+    void onCleanup(@Nullable Object attachment);
+
+  }
+
+  private static final class CleanupReference<E> extends WeakReference<E> {
+    final @Nullable Object attachment;
+
+    CleanupReference(E referent, @Nullable Object attachment, ReferenceQueue<E> queue) {
+      super(referent, queue);
+      this.attachment = attachment;
+    }
+  }
 }
@@ -0,0 +1,311 @@
+package com.github.aparx.bommons.core;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Set of weakly referenced elements, that compares elements by identity rather than by
+ * {@code equals}, and hashes them using {@link System#identityHashCode(Object)}.
+ * <p>Elements are stored in a single open addressing table with linear probing, without any
+ * value objects and with removal by backward shifting, thus without tombstones. Reclaimed
+ * elements are collected through a {@link ReferenceQueue}, which is only drained in batches:
+ * every {@value #EXPUNGE_INTERVAL} operations, before the table grows and when the size is
+ * queried. Until then, reclaimed elements occupy their slot, but are never returned.
+ * <p>Like {@link IdentityHashMap}, this set intentionally violates the general {@link Set}
+ * contract, which mandates the use of {@code equals}. It does not permit null elements and is
+ * not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 16:45
+ * @see WeakHashSet
+ * @since 1.0
+ */
+public class WeakIdentityHashSet<E> extends AbstractSet<E> {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  /** The amount of operations after which reclaimed elements are expunged */
+  private static final int EXPUNGE_INTERVAL = 64;
+
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  private WeakEntry<E>[] table;
+
+  /** The amount of entries in the table, including those of reclaimed elements */
+  private int entryCount;
+
+  private int threshold;
+
+  private int operationCount;
+
+  private int modCount;
+
+  public WeakIdentityHashSet() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public WeakIdentityHashSet(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Expected size must not be negative");
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  public WeakIdentityHashSet(@NonNull Collection<? extends E> initialElements) {
+    this(initialElements.size());
+    addAll(initialElements);
+  }
+
+  @Override
+  public int size() {
+    expungeStaleEntries();
+    return entryCount;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean contains(@Nullable Object o) {
+    if (o == null)
+      return false;
+    tick();
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public boolean add(@NonNull E e) {
+    Preconditions.checkNotNull(e, "Element must not be null");
+    tick();
+    WeakEntry<E>[] tab = table;
+    int mask = tab.length - 1;
+    int hash = hash(e);
+    int i = hash & mask;
+    for (WeakEntry<E> entry; (entry = tab[i]) != null; i = (i + 1) & mask)
+      if (entry.get() == e) return false;
+    ++modCount;
+    if (entryCount + 1 >= threshold) {
+      // expunging shifts entries back, which may fill the free slot or empty a slot before it
+      resize();
+      tab = table;
+      mask = tab.length - 1;
+      i = hash & mask;
+      while (tab[i] != null)
+        i = (i + 1) & mask;
+    }
+    tab[i] = new WeakEntry<>(e, hash, queue);
+    ++entryCount;
+    return true;
+  }
+
+  @Override
+  public boolean remove(@Nullable Object o) {
+    if (o == null)
+      return false;
+    tick();
+    int index = indexOf(o);
+    if (index < 0)
+      return false;
+    ++modCount;
+    table[index].clear(); // cleared references are never enqueued
+    deleteSlot(index);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    ++modCount;
+    for (WeakEntry<E> entry : table)
+      if (entry != null) entry.clear();
+    Arrays.fill(table, null);
+    entryCount = 0;
+    while (queue.poll() != null) ; // discard references enqueued before clearing
+  }
+
+  /**
+   * Returns a fail-fast iterator over the elements of this set. Each element returned is
+   * strongly referenced by the iterator until the next element is returned. Note that
+   * expunging reclaimed elements, which other operations may trigger, is a structural
+   * modification as well.
+   */
+  @Override
+  public @NonNull Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  /** Removes the entries of all reclaimed elements from the table */
+  public void expungeStaleEntries() {
+    operationCount = 0;
+    for (Reference<?> reference; (reference = queue.poll()) != null; ) {
+      @SuppressWarnings("unchecked")
+      WeakEntry<E> entry = (WeakEntry<E>) reference;
+      WeakEntry<E>[] tab = table;
+      int mask = tab.length - 1;
+      for (int i = entry.hash & mask; tab[i] != null; i = (i + 1) & mask) {
+        if (tab[i] == entry) {
+          ++modCount;
+          deleteSlot(i);
+          break;
+        }
+      }
+    }
+  }
+
+  private void tick() {
+    if (++operationCount >= EXPUNGE_INTERVAL)
+      expungeStaleEntries();
+  }
+
+  private int indexOf(Object o) {
+    WeakEntry<E>[] tab = table;
+    int mask = tab.length - 1;
+    for (int i = hash(o) & mask; tab[i] != null; i = (i + 1) & mask)
+      if (tab[i].get() == o) return i;
+    return -1;
+  }
+
+  /**
+   * Empties the slot at {@code index} and shifts subsequent entries of the same cluster back,
+   * so that no entry is separated from its home slot by an empty slot.
+   */
+  private void deleteSlot(int index) {
+    WeakEntry<E>[] tab = table;
+    int mask = tab.length - 1;
+    tab[index] = null;
+    --entryCount;
+    for (int i = index, j = (index + 1) & mask; tab[j] != null; j = (j + 1) & mask) {
+      int home = tab[j].hash & mask;
+      // move the entry, unless its home slot lies cyclically within (i, j]
+      if (i <= j ? (home <= i || home > j) : (home <= i && home > j)) {
+        tab[i] = tab[j];
+        tab[j] = null;
+        i = j;
+      }
+    }
+  }
+
+  /** Expunges and, unless that freed enough slots, rebuilds or grows the table */
+  private void resize() {
+    expungeStaleEntries();
+    if (entryCount + 1 < threshold >> 1)
+      return; // expunging has freed enough slots
+    WeakEntry<E>[] oldTable = table;
+    int newLength = (entryCount + 1 < threshold ? oldTable.length : oldTable.length << 1);
+    Preconditions.checkState(newLength <= MAXIMUM_CAPACITY, "Set is too large");
+    allocate(newLength);
+    WeakEntry<E>[] newTable = table;
+    int mask = newLength - 1;
+    int count = 0;
+    for (WeakEntry<E> entry : oldTable) {
+      if (entry == null || entry.get() == null)
+        continue; // reclaimed entries are dropped, expunging them later finds no slot
+      int i = entry.hash & mask;
+      while (newTable[i] != null)
+        i = (i + 1) & mask;
+      newTable[i] = entry;
+      ++count;
+    }
+    entryCount = count;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void allocate(int length) {
+    this.table = new WeakEntry[length];
+    this.threshold = (int) (length * 2L / 3);
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int minLength = (int) Math.min(MAXIMUM_CAPACITY, 1 + expectedSize * 3L / 2);
+    return Math.max(4, Integer.highestOneBit(minLength - 1) << 1);
+  }
+
+  private static int hash(Object o) {
+    int h = System.identityHashCode(o) * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static final class WeakEntry<E> extends WeakReference<E> {
+    final int hash;
+
+    WeakEntry(E referent, int hash, ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = hash;
+    }
+  }
+
+  /**
+   * Iterator, that traverses the table cyclically, starting after an empty slot. As backward
+   * shifting never moves entries across an empty slot, removing the current element only moves
+   * entries that have not been visited yet into the current slot, which is then revisited.
+   */
+  private final class Itr implements Iterator<E> {
+
+    final WeakEntry<E>[] tab = table;
+    final int mask = tab.length - 1;
+    int expectedModCount = modCount;
+    int remainingSlots = tab.length;
+    int index = emptySlot();
+    @Nullable E next;
+    @Nullable E lastReturned;
+
+    private int emptySlot() {
+      for (int i = 0; i < tab.length; ++i)
+        if (tab[i] == null) return i;
+      throw new AssertionError("Table is full");
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && remainingSlots > 0) {
+        int i = (index + 1) & mask;
+        WeakEntry<E> entry = tab[i];
+        E element = (entry != null ? entry.get() : null);
+        if (element != null)
+          next = element;
+        else {
+          index = i;
+          --remainingSlots;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+      if (!hasNext())
+        throw new NoSuchElementException();
+      E element = next;
+      lastReturned = element;
+      next = null;
+      index = (index + 1) & mask;
+      --remainingSlots;
+      return element;
+    }
+
+    @Override
+    public void remove() {
+      Preconditions.checkState(lastReturned != null, "No element to remove");
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+      Preconditions.checkState(tab[index] != null && tab[index].get() == lastReturned);
+      tab[index].clear();
+      deleteSlot(index);
+      expectedModCount = ++modCount;
+      // revisit the current slot, into which a subsequent entry may have been shifted
+      index = (index - 1) & mask;
+      ++remainingSlots;
+      lastReturned = null;
+    }
+  }
+
+}
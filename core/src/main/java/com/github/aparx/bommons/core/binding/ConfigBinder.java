@@ -0,0 +1,573 @@
+package com.github.aparx.bommons.core.binding;
+
+import com.github.aparx.bommons.core.EnumLookup;
+import com.github.aparx.bommons.core.ObjectConversion;
+import com.google.common.base.Defaults;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Primitives;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Binds configuration trees, that are maps or {@link MemorySection} instances of strings,
+ * numbers, booleans, lists and nested sections, to typed objects.
+ * <p>For each target type, a decoder plan is built once and cached in a {@link ClassValue}.
+ * Supported are strings, primitives and their wrappers, enums (through {@link EnumLookup}),
+ * {@link ConfigurationSerializable} types, arrays, collections and maps (including their
+ * generic element types), records and plain classes with a no-argument constructor. Records
+ * are bound through their canonical constructor and plain classes through their non-static,
+ * non-transient fields, where each component or field is bound from the key of the same name.
+ * Missing keys leave fields at their initial value, and record components at their default.
+ * <p>Building a plan uses reflection, but decoding only invokes the precomputed
+ * {@link MethodHandle}s and decoders, and reads maps and sections through
+ * {@link ObjectConversion#asStringMapView(Object)}, without copying them.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 18:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class ConfigBinder {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final ValueDecoder<Object> IDENTITY = (value) -> value;
+
+  private static final ClassValue<ValueDecoder<?>> DECODERS = new ClassValue<>() {
+    @Override
+    protected ValueDecoder<?> computeValue(Class<?> type) {
+      return createDecoder(type);
+    }
+  };
+
+  private ConfigBinder() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Binds {@code source} to a new instance of {@code type}.
+   *
+   * @throws ConfigBindingException if {@code source} cannot be bound to {@code type}
+   */
+  public static <T> T bind(Object source, Class<T> type) {
+    Preconditions.checkNotNull(source, "Source must not be null");
+    T value = decoder(type).decode(source);
+    if (value == null)
+      throw new ConfigBindingException("Could not bind to " + type.getName());
+    return value;
+  }
+
+  /** Returns the cached decoder for {@code type}, building its plan if necessary */
+  @SuppressWarnings("unchecked")
+  public static <T> ValueDecoder<T> decoder(Class<T> type) {
+    Preconditions.checkNotNull(type, "Type must not be null");
+    return (ValueDecoder<T>) DECODERS.get(type);
+  }
+
+  /**
+   * Returns a decoder for the generic {@code type}, such as {@code List<Material>}. Decoders of
+   * parameterized types are not cached, thus callers should retain the returned decoder.
+   */
+  public static ValueDecoder<?> decoder(Type type) {
+    Preconditions.checkNotNull(type, "Type must not be null");
+    if (type instanceof Class)
+      return DECODERS.get((Class<?>) type);
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterized = (ParameterizedType) type;
+      Class<?> rawType = (Class<?>) parameterized.getRawType();
+      Type[] arguments = parameterized.getActualTypeArguments();
+      if (Collection.class.isAssignableFrom(rawType))
+        return collectionDecoder(rawType, arguments[0]);
+      if (Map.class.isAssignableFrom(rawType))
+        return mapDecoder(rawType, arguments[0], arguments[1]);
+      return DECODERS.get(rawType);
+    }
+    if (type instanceof GenericArrayType) {
+      Type componentType = ((GenericArrayType) type).getGenericComponentType();
+      return arrayDecoder(rawType(componentType), nested(componentType));
+    }
+    if (type instanceof WildcardType)
+      return decoder(((WildcardType) type).getUpperBounds()[0]);
+    return IDENTITY; // unresolved type variables
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static ValueDecoder<?> createDecoder(Class<?> type) {
+    Class<?> boxedType = Primitives.wrap(type);
+    if (boxedType == Object.class)
+      return IDENTITY;
+    if (boxedType == String.class)
+      return (value) -> (value != null ? value.toString() : null);
+    if (boxedType == Integer.class)
+      return numberDecoder(Integer.class, Number::intValue, Integer::valueOf);
+    if (boxedType == Long.class)
+      return numberDecoder(Long.class, Number::longValue, Long::valueOf);
+    if (boxedType == Double.class)
+      return numberDecoder(Double.class, Number::doubleValue, Double::valueOf);
+    if (boxedType == Float.class)
+      return numberDecoder(Float.class, Number::floatValue, Float::valueOf);
+    if (boxedType == Short.class)
+      return numberDecoder(Short.class, Number::shortValue, Short::valueOf);
+    if (boxedType == Byte.class)
+      return numberDecoder(Byte.class, Number::byteValue, Byte::valueOf);
+    if (boxedType == Boolean.class)
+      return ConfigBinder::decodeBoolean;
+    if (boxedType == Character.class)
+      return ConfigBinder::decodeCharacter;
+    if (type.isEnum())
+      return enumDecoder((Class) type);
+    if (ConfigurationSerializable.class.isAssignableFrom(type))
+      return serializableDecoder((Class) type);
+    if (type.isArray())
+      return arrayDecoder(type.getComponentType(), nested(type.getComponentType()));
+    if (Collection.class.isAssignableFrom(type))
+      return collectionDecoder(type, Object.class);
+    if (Map.class.isAssignableFrom(type))
+      return mapDecoder(type, String.class, Object.class);
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+      return (value) -> {
+        if (value == null || type.isInstance(value)) return value;
+        throw new ConfigBindingException("Cannot instantiate " + type.getName());
+      };
+    if (Records.isRecord(type))
+      return recordDecoder(type);
+    return beanDecoder(type);
+  }
+
+  /**
+   * Returns a decoder for {@code type} to be used within a plan. The decoders of classes are
+   * resolved on first use, as plans of self-referencing types would otherwise recurse.
+   */
+  private static ValueDecoder<?> nested(Type type) {
+    if (!(type instanceof Class))
+      return decoder(type);
+    Class<?> nestedType = (Class<?>) type;
+    return new ValueDecoder<>() {
+      @Nullable ValueDecoder<?> decoder;
+
+      @Override
+      public @Nullable Object decode(@Nullable Object value) {
+        ValueDecoder<?> decoder = this.decoder;
+        if (decoder == null)
+          this.decoder = decoder = DECODERS.get(nestedType);
+        return decoder.decode(value);
+      }
+    };
+  }
+
+  private static <N> ValueDecoder<N> numberDecoder(Class<N> type, Function<Number, N> converter,
+                                                   Function<String, N> parser) {
+    return (value) -> {
+      if (value == null || type.isInstance(value))
+        return type.cast(value);
+      if (value instanceof Number)
+        return converter.apply((Number) value);
+      if (value instanceof CharSequence) {
+        try {
+          return parser.apply(value.toString().trim());
+        } catch (NumberFormatException e) {
+          throw new ConfigBindingException("Not a number: " + value, e);
+        }
+      }
+      throw mismatch(type, value);
+    };
+  }
+
+  private static @Nullable Boolean decodeBoolean(@Nullable Object value) {
+    if (value == null || value instanceof Boolean)
+      return (Boolean) value;
+    String string = value.toString().trim();
+    if (string.equalsIgnoreCase("true")) return Boolean.TRUE;
+    if (string.equalsIgnoreCase("false")) return Boolean.FALSE;
+    throw mismatch(Boolean.class, value);
+  }
+
+  private static @Nullable Character decodeCharacter(@Nullable Object value) {
+    if (value == null || value instanceof Character)
+      return (Character) value;
+    if (value instanceof CharSequence && ((CharSequence) value).length() == 1)
+      return ((CharSequence) value).charAt(0);
+    throw mismatch(Character.class, value);
+  }
+
+  private static <E extends Enum<E>> ValueDecoder<E> enumDecoder(Class<E> type) {
+    EnumLookup<E> lookup = EnumLookup.of(type);
+    return (value) -> {
+      if (value == null || type.isInstance(value))
+        return type.cast(value);
+      E constant = lookup.find(value instanceof CharSequence
+          ? (CharSequence) value : value.toString());
+      if (constant == null)
+        throw new ConfigBindingException("Unknown " + type.getSimpleName() + ": " + value);
+      return constant;
+    };
+  }
+
+  private static <T extends ConfigurationSerializable>
+  ValueDecoder<T> serializableDecoder(Class<T> type) {
+    return (value) -> {
+      if (value == null || type.isInstance(value))
+        return type.cast(value);
+      ConfigurationSerializable object =
+          ConfigurationSerialization.deserializeObject(asMap(value, type), type);
+      if (!type.isInstance(object))
+        throw new ConfigBindingException("Could not deserialize " + type.getName());
+      return type.cast(object);
+    };
+  }
+
+  private static ValueDecoder<?> arrayDecoder(Class<?> componentType,
+                                              ValueDecoder<?> componentDecoder) {
+    return (value) -> {
+      if (value == null || (value.getClass().isArray()
+          && componentType.isAssignableFrom(value.getClass().getComponentType())))
+        return value;
+      Collection<?> elements = asCollection(value);
+      Object array = Array.newInstance(componentType, elements.size());
+      int index = 0;
+      for (Object element : elements) {
+        Object decoded = decodeElement(componentDecoder, element, index);
+        if (decoded == null && componentType.isPrimitive())
+          throw new ConfigBindingException("Value must not be null").prependPath(index(index));
+        Array.set(array, index++, decoded);
+      }
+      return array;
+    };
+  }
+
+  private static ValueDecoder<?> collectionDecoder(Class<?> rawType, Type elementType) {
+    ValueDecoder<?> elementDecoder = nested(elementType);
+    IntFunction<Collection<@Nullable Object>> factory =
+        collectionFactory(rawType, rawType(elementType));
+    return (value) -> {
+      if (value == null)
+        return null;
+      Collection<?> elements = asCollection(value);
+      Collection<@Nullable Object> collection = factory.apply(elements.size());
+      int index = 0;
+      for (Object element : elements)
+        collection.add(decodeElement(elementDecoder, element, index++));
+      return collection;
+    };
+  }
+
+  private static ValueDecoder<?> mapDecoder(Class<?> rawType, Type keyType, Type valueType) {
+    ValueDecoder<?> keyDecoder = nested(keyType);
+    ValueDecoder<?> valueDecoder = nested(valueType);
+    IntFunction<Map<@Nullable Object, @Nullable Object>> factory =
+        mapFactory(rawType, rawType(keyType));
+    return (value) -> {
+      if (value == null)
+        return null;
+      Map<@Nullable String, @Nullable Object> source = asMap(value, rawType);
+      // sections copy their keys per entry set, thus size and iterate the same entry set
+      Set<Map.Entry<@Nullable String, @Nullable Object>> entries = source.entrySet();
+      Map<@Nullable Object, @Nullable Object> map = factory.apply(entries.size());
+      for (Map.Entry<@Nullable String, @Nullable Object> entry : entries) {
+        String key = String.valueOf(entry.getKey());
+        try {
+          map.put(keyDecoder.decode(key), valueDecoder.decode(entry.getValue()));
+        } catch (ConfigBindingException e) {
+          throw e.prependPath(key);
+        } catch (RuntimeException e) {
+          throw new ConfigBindingException(String.valueOf(e.getMessage()), e).prependPath(key);
+        }
+      }
+      return map;
+    };
+  }
+
+  private static ValueDecoder<?> beanDecoder(Class<?> type) {
+    MethodHandle constructor;
+    List<FieldBinding> bindings = new ArrayList<>();
+    try {
+      Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+      declaredConstructor.setAccessible(true);
+      constructor = LOOKUP.unreflectConstructor(declaredConstructor)
+          .asType(MethodType.methodType(Object.class));
+      for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+              || field.isSynthetic())
+            continue;
+          field.setAccessible(true);
+          MethodHandle setter = LOOKUP.unreflectSetter(field)
+              .asType(MethodType.methodType(void.class, Object.class, Object.class));
+          bindings.add(new FieldBinding(field.getName(), nested(field.getGenericType()),
+              setter, field.getType().isPrimitive()));
+        }
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new ConfigBindingException("Cannot bind " + type.getName()
+          + ", which requires a no-argument constructor and accessible fields", e);
+    }
+    FieldBinding[] fields = bindings.toArray(new FieldBinding[0]);
+    return (value) -> {
+      if (value == null || type.isInstance(value))
+        return value;
+      Map<@Nullable String, @Nullable Object> source = asMap(value, type);
+      Object instance;
+      try {
+        instance = (Object) constructor.invokeExact();
+      } catch (Throwable e) {
+        throw new ConfigBindingException("Could not instantiate " + type.getName(), e);
+      }
+      for (FieldBinding field : fields) {
+        Object raw = source.get(field.name);
+        if (raw == null)
+          continue;
+        Object decoded = decodeElement(field.decoder, raw, field.name);
+        if (decoded == null && field.primitive)
+          continue;
+        try {
+          field.setter.invokeExact(instance, decoded);
+        } catch (Throwable e) {
+          throw new ConfigBindingException("Could not set field", e).prependPath(field.name);
+        }
+      }
+      return instance;
+    };
+  }
+
+  private static ValueDecoder<?> recordDecoder(Class<?> type) {
+    Records.Component[] components;
+    MethodHandle constructor;
+    try {
+      components = Records.components(type);
+      Class<?>[] parameterTypes = new Class<?>[components.length];
+      for (int i = 0; i < components.length; ++i)
+        parameterTypes[i] = components[i].type;
+      Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+      canonical.setAccessible(true);
+      constructor = LOOKUP.unreflectConstructor(canonical)
+          .asSpreader(Object[].class, components.length)
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new ConfigBindingException("Cannot bind record " + type.getName(), e);
+    }
+    ValueDecoder<?>[] decoders = new ValueDecoder<?>[components.length];
+    @Nullable Object[] defaults = new Object[components.length];
+    for (int i = 0; i < components.length; ++i) {
+      decoders[i] = nested(components[i].genericType);
+      defaults[i] = Defaults.defaultValue(components[i].type);
+    }
+    return (value) -> {
+      if (value == null || type.isInstance(value))
+        return value;
+      Map<@Nullable String, @Nullable Object> source = asMap(value, type);
+      @Nullable Object[] arguments = new Object[components.length];
+      for (int i = 0; i < arguments.length; ++i) {
+        String name = components[i].name;
+        Object raw = source.get(name);
+        Object decoded = (raw != null ? decodeElement(decoders[i], raw, name) : null);
+        arguments[i] = (decoded != null ? decoded : defaults[i]);
+      }
+      try {
+        return (Object) constructor.invokeExact(arguments);
+      } catch (ConfigBindingException e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new ConfigBindingException("Could not construct " + type.getName(), e);
+      }
+    };
+  }
+
+  private static @Nullable Object decodeElement(ValueDecoder<?> decoder,
+                                                @Nullable Object value, Object pathSegment) {
+    try {
+      return decoder.decode(value);
+    } catch (ConfigBindingException e) {
+      throw e.prependPath(segment(pathSegment));
+    } catch (RuntimeException e) {
+      throw new ConfigBindingException(String.valueOf(e.getMessage()), e)
+          .prependPath(segment(pathSegment));
+    }
+  }
+
+  private static String segment(Object pathSegment) {
+    return (pathSegment instanceof Integer ? index((Integer) pathSegment) : pathSegment.toString());
+  }
+
+  private static String index(int index) {
+    return "[" + index + "]";
+  }
+
+  private static Map<@Nullable String, @Nullable Object> asMap(Object value, Class<?> type) {
+    if (value instanceof Map || value instanceof MemorySection)
+      return ObjectConversion.asStringMapView(value);
+    throw mismatch(type, value);
+  }
+
+  /** Returns the elements of {@code value}, treating a single non-collection value as such */
+  private static Collection<?> asCollection(Object value) {
+    if (value instanceof Collection)
+      return (Collection<?>) value;
+    if (value instanceof Object[])
+      return Arrays.asList((Object[]) value);
+    if (value instanceof Iterable) {
+      List<Object> list = new ArrayList<>();
+      ((Iterable<?>) value).forEach(list::add);
+      return list;
+    }
+    return Collections.singletonList(value);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static IntFunction<Collection<@Nullable Object>> collectionFactory(
+      Class<?> rawType, Class<?> elementType) {
+    if (rawType.isAssignableFrom(ArrayList.class))
+      return ArrayList::new;
+    if (rawType.isAssignableFrom(EnumSet.class) && elementType.isEnum())
+      return (size) -> (Collection) EnumSet.noneOf((Class) elementType);
+    if (rawType.isAssignableFrom(LinkedHashSet.class))
+      return LinkedHashSet::new;
+    if (rawType.isAssignableFrom(TreeSet.class))
+      return (size) -> new TreeSet<>();
+    if (rawType.isAssignableFrom(ArrayDeque.class))
+      return ArrayDeque::new;
+    MethodHandle constructor = noArgConstructor(rawType);
+    return (size) -> (Collection<@Nullable Object>) newInstance(constructor, rawType);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static IntFunction<Map<@Nullable Object, @Nullable Object>> mapFactory(
+      Class<?> rawType, Class<?> keyType) {
+    if (rawType.isAssignableFrom(EnumMap.class) && keyType.isEnum())
+      return (size) -> new EnumMap(keyType);
+    if (rawType.isAssignableFrom(LinkedHashMap.class))
+      return (size) -> new LinkedHashMap<>(Math.max(4, (int) (size / .75f) + 1));
+    if (rawType.isAssignableFrom(TreeMap.class))
+      return (size) -> new TreeMap<>();
+    MethodHandle constructor = noArgConstructor(rawType);
+    return (size) -> (Map<@Nullable Object, @Nullable Object>) newInstance(constructor, rawType);
+  }
+
+  private static MethodHandle noArgConstructor(Class<?> type) {
+    try {
+      return LOOKUP.findConstructor(type, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ConfigBindingException("Cannot instantiate " + type.getName(), e);
+    }
+  }
+
+  private static Object newInstance(MethodHandle constructor, Class<?> type) {
+    try {
+      return (Object) constructor.invokeExact();
+    } catch (Throwable e) {
+      throw new ConfigBindingException("Could not instantiate " + type.getName(), e);
+    }
+  }
+
+  private static Class<?> rawType(Type type) {
+    if (type instanceof Class)
+      return (Class<?>) type;
+    if (type instanceof ParameterizedType)
+      return rawType(((ParameterizedType) type).getRawType());
+    if (type instanceof GenericArrayType)
+      return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0)
+          .getClass();
+    if (type instanceof WildcardType)
+      return rawType(((WildcardType) type).getUpperBounds()[0]);
+    return Object.class;
+  }
+
+  private static ConfigBindingException mismatch(Class<?> type, Object value) {
+    return new ConfigBindingException("Expected " + type.getSimpleName() + ", got "
+        + value.getClass().getSimpleName() + " (" + value + ")");
+  }
+
+  private static final class FieldBinding {
+    final String name;
+    final ValueDecoder<?> decoder;
+    final MethodHandle setter;
+    final boolean primitive;
+
+    FieldBinding(String name, ValueDecoder<?> decoder, MethodHandle setter, boolean primitive) {
+      this.name = name;
+      this.decoder = decoder;
+      this.setter = setter;
+      this.primitive = primitive;
+    }
+  }
+
+  /**
+   * Reflective access to records, which exist from Java 16 onward, while this library targets
+   * an earlier release. On older runtimes no class is a record.
+   */
+  private static final class Records {
+
+    private static final @Nullable Method IS_RECORD;
+    private static final @Nullable Method GET_RECORD_COMPONENTS;
+    private static final @Nullable Method GET_NAME;
+    private static final @Nullable Method GET_TYPE;
+    private static final @Nullable Method GET_GENERIC_TYPE;
+
+    static {
+      Method isRecord = null, getRecordComponents = null;
+      Method getName = null, getType = null, getGenericType = null;
+      try {
+        isRecord = Class.class.getMethod("isRecord");
+        getRecordComponents = Class.class.getMethod("getRecordComponents");
+        Class<?> componentType = Class.forName("java.lang.reflect.RecordComponent");
+        getName = componentType.getMethod("getName");
+        getType = componentType.getMethod("getType");
+        getGenericType = componentType.getMethod("getGenericType");
+      } catch (ReflectiveOperationException e) {
+        isRecord = null; // records are not supported by this runtime
+      }
+      IS_RECORD = isRecord;
+      GET_RECORD_COMPONENTS = getRecordComponents;
+      GET_NAME = getName;
+      GET_TYPE = getType;
+      GET_GENERIC_TYPE = getGenericType;
+    }
+
+    static boolean isRecord(Class<?> type) {
+      try {
+        return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+      } catch (ReflectiveOperationException e) {
+        return false;
+      }
+    }
+
+    static Component[] components(Class<?> type) throws ReflectiveOperationException {
+      Object[] components = (Object[]) Objects.requireNonNull(GET_RECORD_COMPONENTS).invoke(type);
+      Component[] result = new Component[components.length];
+      for (int i = 0; i < components.length; ++i) {
+        Object component = components[i];
+        result[i] = new Component(
+            (String) Objects.requireNonNull(GET_NAME).invoke(component),
+            (Class<?>) Objects.requireNonNull(GET_TYPE).invoke(component),
+            (Type) Objects.requireNonNull(GET_GENERIC_TYPE).invoke(component));
+      }
+      return result;
+    }
+
+    static final class Component {
+      final String name;
+      final Class<?> type;
+      final Type genericType;
+
+      Component(String name, Class<?> type, Type genericType) {
+        this.name = name;
+        this.type = type;
+        this.genericType = genericType;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,58 @@
+package com.github.aparx.bommons.core.binding;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Thrown if a configuration value cannot be bound to its target type. The exception carries
+ * the path of the offending value, such as {@code items[2].type}, relative to the bound root.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 18:40
+ * @see ConfigBinder
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class ConfigBindingException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String reason;
+
+  private String path = "";
+
+  public ConfigBindingException(String reason) {
+    super(reason);
+    this.reason = reason;
+  }
+
+  public ConfigBindingException(String reason, @Nullable Throwable cause) {
+    super(reason, cause);
+    this.reason = reason;
+  }
+
+  /** Returns the path of the value that could not be bound, or an empty string for the root */
+  public String getPath() {
+    return path;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  /** Prepends {@code segment}, a key or an {@code [index]}, to the path of this exception */
+  ConfigBindingException prependPath(String segment) {
+    if (path.isEmpty())
+      path = segment;
+    else
+      path = segment + (path.charAt(0) == '[' ? "" : ".") + path;
+    return this;
+  }
+
+  @Override
+  public String getMessage() {
+    return (path.isEmpty() ? reason : path + ": " + reason);
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.github.aparx.bommons.core.binding;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Converts a raw configuration value, such as a string, number, list, map or
+ * {@code MemorySection}, into a value of type {@code T}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 18:40
+ * @see ConfigBinder
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ValueDecoder<T> {
+
+  /**
+   * @return the decoded value, or null if {@code value} is null
+   * @throws ConfigBindingException if the value cannot be converted
+   */
+  @Nullable T decode(@Nullable Object value);
+
+}
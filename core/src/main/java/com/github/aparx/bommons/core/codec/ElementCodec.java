@@ -0,0 +1,28 @@
+package com.github.aparx.bommons.core.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary codec for single non-null elements, used by {@link IndexMapCodec} to encode the
+ * values of an index map.
+ * <p>An element codec must read exactly the bytes it has written, as elements are written
+ * back to back without any length prefix.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:30
+ * @see ElementCodecs
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public interface ElementCodec<E> {
+
+  void write(DataOutput output, E value) throws IOException;
+
+  E read(DataInput input) throws IOException;
+
+}
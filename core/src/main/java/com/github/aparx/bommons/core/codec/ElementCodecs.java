@@ -0,0 +1,285 @@
+package com.github.aparx.bommons.core.codec;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Built-in element codecs for primitives, strings and {@link ConfigurationSerializable}
+ * objects.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:30
+ * @see IndexMapCodec
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class ElementCodecs {
+
+  public static final ElementCodec<Boolean> BOOLEAN =
+      of(DataOutput::writeBoolean, DataInput::readBoolean);
+
+  public static final ElementCodec<Byte> BYTE =
+      ElementCodecs.<Byte>of(DataOutput::writeByte, DataInput::readByte);
+
+  public static final ElementCodec<Short> SHORT =
+      ElementCodecs.<Short>of(DataOutput::writeShort, DataInput::readShort);
+
+  public static final ElementCodec<Character> CHAR =
+      ElementCodecs.<Character>of(DataOutput::writeChar, DataInput::readChar);
+
+  public static final ElementCodec<Integer> INT =
+      of(DataOutput::writeInt, DataInput::readInt);
+
+  public static final ElementCodec<Long> LONG =
+      of(DataOutput::writeLong, DataInput::readLong);
+
+  public static final ElementCodec<Float> FLOAT =
+      of(DataOutput::writeFloat, DataInput::readFloat);
+
+  public static final ElementCodec<Double> DOUBLE =
+      of(DataOutput::writeDouble, DataInput::readDouble);
+
+  /** Zig-zag encoded variable-length integer, preferable for mostly small values */
+  public static final ElementCodec<Integer> VAR_INT = of(
+      (output, value) -> VarInts.writeVarInt(output, VarInts.zigZag(value)),
+      (input) -> VarInts.unZigZag(VarInts.readVarInt(input)));
+
+  /** Zig-zag encoded variable-length long, preferable for mostly small values */
+  public static final ElementCodec<Long> VAR_LONG = of(
+      (output, value) -> VarInts.writeVarLong(output, VarInts.zigZag(value)),
+      (input) -> VarInts.unZigZag(VarInts.readVarLong(input)));
+
+  /**
+   * UTF-8 string prefixed by its byte length as variable-length integer. Other than
+   * {@link DataOutput#writeUTF(String)}, the length of strings is not limited to 64 KiB.
+   */
+  public static final ElementCodec<String> STRING = of(
+      (output, value) -> {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeVarInt(output, bytes.length);
+        output.write(bytes);
+      },
+      (input) -> {
+        int length = VarInts.readVarInt(input);
+        if (length < 0)
+          throw new StreamCorruptedException("Invalid string length: " + length);
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      });
+
+  /**
+   * Tagged codec for values as they are produced by {@link ConfigurationSerializable#serialize()},
+   * that are strings, boxed primitives, lists, string keyed maps and nested serializable
+   * objects, which may also be null within collections.
+   */
+  private static final ElementCodec<Object> OBJECT = of(
+      ElementCodecs::writeTagged, ElementCodecs::readTagged);
+
+  private static final int TAG_NULL = 0;
+  private static final int TAG_STRING = 1;
+  private static final int TAG_BOOLEAN = 2;
+  private static final int TAG_INT = 3;
+  private static final int TAG_LONG = 4;
+  private static final int TAG_DOUBLE = 5;
+  private static final int TAG_FLOAT = 6;
+  private static final int TAG_LIST = 7;
+  private static final int TAG_MAP = 8;
+  private static final int TAG_SERIALIZABLE = 9;
+  private static final int TAG_SHORT = 10;
+  private static final int TAG_BYTE = 11;
+  private static final int TAG_CHAR = 12;
+
+  private ElementCodecs() {
+    throw new AssertionError();
+  }
+
+  public static <E> ElementCodec<E> of(Writer<? super E> writer, Reader<? extends E> reader) {
+    Preconditions.checkNotNull(writer, "Writer must not be null");
+    Preconditions.checkNotNull(reader, "Reader must not be null");
+    return new ElementCodec<>() {
+      @Override
+      public void write(DataOutput output, E value) throws IOException {
+        writer.write(output, value);
+      }
+
+      @Override
+      public E read(DataInput input) throws IOException {
+        return reader.read(input);
+      }
+    };
+  }
+
+  /**
+   * Returns a codec for objects that are representable in a configuration, that are strings,
+   * boxed primitives, lists, string keyed maps and {@link ConfigurationSerializable} objects.
+   */
+  public static ElementCodec<Object> object() {
+    return OBJECT;
+  }
+
+  /**
+   * Returns a codec, that writes {@code type} instances through their
+   * {@link ConfigurationSerializable#serialize()} map, tagged with their serialization alias.
+   * This is the fallback for types without a dedicated codec, and is thus only as compact as
+   * the serialized map is. Reading requires the type to be registered in
+   * {@link ConfigurationSerialization}.
+   */
+  public static <T extends ConfigurationSerializable> ElementCodec<T> serializable(Class<T> type) {
+    Preconditions.checkNotNull(type, "Type must not be null");
+    return of(ElementCodecs::writeSerializable, (input) -> {
+      Object value = readSerializable(input);
+      if (!type.isInstance(value))
+        throw new StreamCorruptedException("Expected " + type.getName() + ", got " + value);
+      return type.cast(value);
+    });
+  }
+
+  private static void writeTagged(DataOutput output, @Nullable Object value) throws IOException {
+    if (value == null) {
+      output.writeByte(TAG_NULL);
+    } else if (value instanceof String) {
+      output.writeByte(TAG_STRING);
+      STRING.write(output, (String) value);
+    } else if (value instanceof Boolean) {
+      output.writeByte(TAG_BOOLEAN);
+      output.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer) {
+      output.writeByte(TAG_INT);
+      VAR_INT.write(output, (Integer) value);
+    } else if (value instanceof Long) {
+      output.writeByte(TAG_LONG);
+      VAR_LONG.write(output, (Long) value);
+    } else if (value instanceof Double) {
+      output.writeByte(TAG_DOUBLE);
+      output.writeDouble((Double) value);
+    } else if (value instanceof Float) {
+      output.writeByte(TAG_FLOAT);
+      output.writeFloat((Float) value);
+    } else if (value instanceof Short) {
+      output.writeByte(TAG_SHORT);
+      output.writeShort((Short) value);
+    } else if (value instanceof Byte) {
+      output.writeByte(TAG_BYTE);
+      output.writeByte((Byte) value);
+    } else if (value instanceof Character) {
+      output.writeByte(TAG_CHAR);
+      output.writeChar((Character) value);
+    } else if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+      output.writeByte(TAG_LIST);
+      VarInts.writeVarInt(output, collection.size());
+      for (Object element : collection)
+        writeTagged(output, element);
+    } else if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      output.writeByte(TAG_MAP);
+      VarInts.writeVarInt(output, map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        STRING.write(output, String.valueOf(entry.getKey()));
+        writeTagged(output, entry.getValue());
+      }
+    } else if (value instanceof ConfigurationSerializable) {
+      output.writeByte(TAG_SERIALIZABLE);
+      writeSerializable(output, (ConfigurationSerializable) value);
+    } else {
+      throw new IllegalArgumentException("Unsupported type: " + value.getClass().getName());
+    }
+  }
+
+  private static @Nullable Object readTagged(DataInput input) throws IOException {
+    int tag = input.readUnsignedByte();
+    switch (tag) {
+      case TAG_NULL:
+        return null;
+      case TAG_STRING:
+        return STRING.read(input);
+      case TAG_BOOLEAN:
+        return input.readBoolean();
+      case TAG_INT:
+        return VAR_INT.read(input);
+      case TAG_LONG:
+        return VAR_LONG.read(input);
+      case TAG_DOUBLE:
+        return input.readDouble();
+      case TAG_FLOAT:
+        return input.readFloat();
+      case TAG_SHORT:
+        return input.readShort();
+      case TAG_BYTE:
+        return input.readByte();
+      case TAG_CHAR:
+        return input.readChar();
+      case TAG_LIST: {
+        int size = readSize(input);
+        List<@Nullable Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i)
+          list.add(readTagged(input));
+        return list;
+      }
+      case TAG_MAP:
+        return readMap(input);
+      case TAG_SERIALIZABLE:
+        return readSerializable(input);
+      default:
+        throw new StreamCorruptedException("Unknown tag: " + tag);
+    }
+  }
+
+  private static void writeSerializable(DataOutput output, ConfigurationSerializable value)
+      throws IOException {
+    Map<String, Object> map = value.serialize();
+    VarInts.writeVarInt(output, 1 + map.size());
+    STRING.write(output, ConfigurationSerialization.SERIALIZED_TYPE_KEY);
+    writeTagged(output, ConfigurationSerialization.getAlias(value.getClass()));
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      STRING.write(output, entry.getKey());
+      writeTagged(output, entry.getValue());
+    }
+  }
+
+  private static ConfigurationSerializable readSerializable(DataInput input) throws IOException {
+    Map<String, @Nullable Object> map = readMap(input);
+    ConfigurationSerializable value = ConfigurationSerialization.deserializeObject(map);
+    if (value == null)
+      throw new StreamCorruptedException("Could not deserialize: " + map);
+    return value;
+  }
+
+  private static Map<String, @Nullable Object> readMap(DataInput input) throws IOException {
+    int size = readSize(input);
+    Map<String, @Nullable Object> map = new LinkedHashMap<>(Math.max(4, (int) (size / .75f) + 1));
+    for (int i = 0; i < size; ++i)
+      map.put(STRING.read(input), readTagged(input));
+    return map;
+  }
+
+  private static int readSize(DataInput input) throws IOException {
+    int size = VarInts.readVarInt(input);
+    if (size < 0)
+      throw new StreamCorruptedException("Invalid size: " + size);
+    return size;
+  }
+
+  @FunctionalInterface
+  public interface Writer<E> {
+    void write(DataOutput output, E value) throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface Reader<E> {
+    E read(DataInput input) throws IOException;
+  }
+
+}
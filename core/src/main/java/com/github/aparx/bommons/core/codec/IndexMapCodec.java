@@ -0,0 +1,157 @@
+package com.github.aparx.bommons.core.codec;
+
+import com.github.aparx.bommons.core.IndexMap;
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary codec for {@link IndexMap} instances.
+ * <p>The format consists of a version byte and the amount of entries, followed by each entry
+ * in ascending index order. An entry is a variable-length header, which stores the distance to
+ * the previous entry's index shifted left by one and a flag in the lowest bit, that is set if
+ * the value is null. Non-null values follow their header and are written by the element codec.
+ * Densely occupied maps thus spend a single byte per index.
+ * <p>Maps can be written to and read from any {@link DataOutput} and {@link DataInput}, as
+ * well as directly to and from a {@link ByteBuffer}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:30
+ * @see ElementCodecs
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class IndexMapCodec<E> {
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final ElementCodec<E> elementCodec;
+
+  private IndexMapCodec(ElementCodec<E> elementCodec) {
+    Preconditions.checkNotNull(elementCodec, "Element codec must not be null");
+    this.elementCodec = elementCodec;
+  }
+
+  public static <E> IndexMapCodec<E> of(ElementCodec<E> elementCodec) {
+    return new IndexMapCodec<>(elementCodec);
+  }
+
+  public ElementCodec<E> getElementCodec() {
+    return elementCodec;
+  }
+
+  public void write(IndexMap<? extends @Nullable E> map, DataOutput output) throws IOException {
+    Preconditions.checkNotNull(map, "Map must not be null");
+    Preconditions.checkNotNull(output, "Output must not be null");
+    output.writeByte(FORMAT_VERSION);
+    VarInts.writeVarInt(output, map.size());
+    int previous = -1;
+    for (int i = map.firstIndex(); i != -1; i = map.nextIndex(i)) {
+      @Nullable E value = map.get(i);
+      VarInts.writeVarInt(output, ((i - previous - 1) << 1) | (value == null ? 1 : 0));
+      if (value != null)
+        elementCodec.write(output, value);
+      previous = i;
+    }
+  }
+
+  /**
+   * Writes {@code map} into {@code buffer}, starting at its current position.
+   *
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining
+   */
+  public void write(IndexMap<? extends @Nullable E> map, ByteBuffer buffer) {
+    Preconditions.checkNotNull(buffer, "Buffer must not be null");
+    try {
+      write(map, new DataOutputStream(new ByteBufferOutputStream(buffer)));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public IndexMap<@Nullable E> read(DataInput input) throws IOException {
+    IndexMap<@Nullable E> map = new IndexMap<>();
+    readInto(input, map);
+    return map;
+  }
+
+  public IndexMap<@Nullable E> read(ByteBuffer buffer) throws IOException {
+    Preconditions.checkNotNull(buffer, "Buffer must not be null");
+    return read(new DataInputStream(new ByteBufferInputStream(buffer)));
+  }
+
+  /** Reads entries from {@code input} and puts them into {@code map}, replacing existing ones */
+  public void readInto(DataInput input, IndexMap<? super @Nullable E> map) throws IOException {
+    Preconditions.checkNotNull(input, "Input must not be null");
+    Preconditions.checkNotNull(map, "Map must not be null");
+    int version = input.readUnsignedByte();
+    if (version != FORMAT_VERSION)
+      throw new StreamCorruptedException("Unsupported format version: " + version);
+    int size = VarInts.readVarInt(input);
+    if (size < 0)
+      throw new StreamCorruptedException("Invalid size: " + size);
+    int index = -1;
+    for (int n = 0; n < size; ++n) {
+      int header = VarInts.readVarInt(input);
+      int delta = header >>> 1;
+      if (delta >= Integer.MAX_VALUE - 1 - index)
+        throw new StreamCorruptedException("Index out of range");
+      index += 1 + delta;
+      map.put(index, (header & 1) != 0 ? null : elementCodec.read(input));
+    }
+  }
+
+  /** Output stream, that writes into a byte buffer */
+  private static final class ByteBufferOutputStream extends OutputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      buffer.put(bytes, offset, length);
+    }
+  }
+
+  /** Input stream, that reads from a byte buffer */
+  private static final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return (buffer.hasRemaining() ? buffer.get() & 0xFF : -1);
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0)
+        return 0;
+      if (!buffer.hasRemaining())
+        return -1;
+      length = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, length);
+      return length;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+package com.github.aparx.bommons.core.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Utility for variable-length integers, that store seven bits per byte, least significant
+ * group first, with the most significant bit of each byte set if another byte follows.
+ * <p>Small unsigned values thus take a single byte. Signed values should be zig-zag encoded
+ * first, so that small negative values stay small as well.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:30
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class VarInts {
+
+  private VarInts() {
+    throw new AssertionError();
+  }
+
+  public static void writeVarInt(DataOutput output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte(value);
+  }
+
+  public static int readVarInt(DataInput input) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      byte b = input.readByte();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new StreamCorruptedException("VarInt is too long");
+  }
+
+  public static void writeVarLong(DataOutput output, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+
+  public static long readVarLong(DataInput input) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new StreamCorruptedException("VarLong is too long");
+  }
+
+  public static int zigZag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  public static int unZigZag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  public static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+}
@@ -0,0 +1,45 @@
+package com.github.aparx.bommons.core.position;
+
+/**
+ * Shared hashing and sizing of the open-addressing tables of {@link BlockPosSet} and
+ * {@link BlockPosMap}, which use linear probing over power-of-two sized key arrays.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:50
+ * @since 1.0
+ */
+final class BlockPosHashing {
+
+  static final float LOAD_FACTOR = .75f;
+
+  static final int MIN_CAPACITY = 4;
+
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private BlockPosHashing() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Spreads the bits of a packed block position, whose low bits only vary with the
+   * y-coordinate, over the whole hash.
+   */
+  static int mix(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /** Returns the table capacity required to hold {@code expectedSize} keys */
+  static int tableSize(int expectedSize) {
+    long required = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR);
+    if (required >= MAX_CAPACITY)
+      return MAX_CAPACITY;
+    return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+  }
+
+  /** Returns the amount of keys a table of {@code capacity} holds before growing */
+  static int maxFill(int capacity) {
+    return Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+  }
+
+}
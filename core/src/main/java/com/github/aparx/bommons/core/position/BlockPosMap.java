@@ -0,0 +1,265 @@
+package com.github.aparx.bommons.core.position;
+
+import com.github.aparx.bommons.core.LongObjConsumer;
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * Map from block positions, packed through {@link Position#packBlock(int, int, int)}, to
+ * values, that stores its keys unboxed in an open-addressing table with linear probing and its
+ * values in a parallel array.
+ * <p>As the packed position of block {@code (0, 0, 0)} is zero, which marks empty slots, its
+ * mapping is held separately. Removal shifts subsequent entries of the same probe sequence
+ * backwards, thus the table never contains tombstones. Null values are permitted.
+ * <p>This map is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:50
+ * @see BlockPosSet
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class BlockPosMap<V> implements Cloneable {
+
+  private long[] keys;
+
+  private @Nullable Object[] values;
+
+  private int mask;
+
+  private int maxFill;
+
+  private boolean containsZero;
+
+  private @Nullable V zeroValue;
+
+  private int size;
+
+  public BlockPosMap() {
+    this(BlockPosHashing.MIN_CAPACITY);
+  }
+
+  public BlockPosMap(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Expected size must not be negative");
+    allocate(BlockPosHashing.tableSize(expectedSize));
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(long packed) {
+    return (packed == 0 ? containsZero : find(packed) >= 0);
+  }
+
+  /** @see #containsKey(long) */
+  public boolean containsKey(int blockX, int blockY, int blockZ) {
+    return containsKey(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  public @Nullable V get(long packed) {
+    return getOrDefault(packed, null);
+  }
+
+  /** @see #get(long) */
+  public @Nullable V get(int blockX, int blockY, int blockZ) {
+    return get(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V getOrDefault(long packed, @Nullable V defaultValue) {
+    if (packed == 0)
+      return (containsZero ? zeroValue : defaultValue);
+    int pos = find(packed);
+    return (pos >= 0 ? (V) values[pos] : defaultValue);
+  }
+
+  /** @return the previous value, or null if there was no mapping for {@code packed} */
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable V put(long packed, @Nullable V value) {
+    if (packed == 0) {
+      V previousValue = zeroValue;
+      zeroValue = value;
+      if (!containsZero) {
+        containsZero = true;
+        ++size;
+      }
+      return previousValue;
+    }
+    long[] keys = this.keys;
+    int pos = BlockPosHashing.mix(packed) & mask;
+    for (long key; (key = keys[pos]) != 0; pos = (pos + 1) & mask) {
+      if (key == packed) {
+        V previousValue = (V) values[pos];
+        values[pos] = value;
+        return previousValue;
+      }
+    }
+    keys[pos] = packed;
+    values[pos] = value;
+    if (++size > maxFill)
+      rehash(keys.length << 1);
+    return null;
+  }
+
+  /** @see #put(long, Object) */
+  @CanIgnoreReturnValue
+  public @Nullable V put(int blockX, int blockY, int blockZ, @Nullable V value) {
+    return put(Position.packBlock(blockX, blockY, blockZ), value);
+  }
+
+  /**
+   * Returns the value mapped to {@code packed}, after mapping it to the value computed by
+   * {@code mappingFunction} if there was no mapping.
+   */
+  public @Nullable V computeIfAbsent(long packed,
+                                     LongFunction<? extends @Nullable V> mappingFunction) {
+    Preconditions.checkNotNull(mappingFunction, "Function must not be null");
+    if (packed == 0 ? containsZero : find(packed) >= 0)
+      return get(packed);
+    V value = mappingFunction.apply(packed);
+    put(packed, value);
+    return value;
+  }
+
+  /** @return the removed value, or null if there was no mapping for {@code packed} */
+  @CanIgnoreReturnValue
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(long packed) {
+    if (packed == 0) {
+      if (!containsZero) return null;
+      V previousValue = zeroValue;
+      containsZero = false;
+      zeroValue = null;
+      --size;
+      return previousValue;
+    }
+    int pos = find(packed);
+    if (pos < 0) return null;
+    V previousValue = (V) values[pos];
+    shiftKeys(pos);
+    --size;
+    return previousValue;
+  }
+
+  /** @see #remove(long) */
+  @CanIgnoreReturnValue
+  public @Nullable V remove(int blockX, int blockY, int blockZ) {
+    return remove(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  public void clear() {
+    if (size == 0) return;
+    Arrays.fill(keys, 0L);
+    Arrays.fill(values, null);
+    containsZero = false;
+    zeroValue = null;
+    size = 0;
+  }
+
+  /** Calls {@code action} for each mapping, in no particular order, without allocating */
+  @SuppressWarnings("unchecked")
+  public void forEach(LongObjConsumer<? super @Nullable V> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    if (containsZero)
+      action.accept(0L, zeroValue);
+    long[] keys = this.keys;
+    for (int i = 0; i < keys.length; ++i)
+      if (keys[i] != 0) action.accept(keys[i], (V) values[i]);
+  }
+
+  /** Returns a set of the packed positions of this map, which is detached from this map */
+  public BlockPosSet keySet() {
+    BlockPosSet set = new BlockPosSet(size);
+    if (containsZero)
+      set.add(0L);
+    for (long key : keys)
+      if (key != 0) set.add(key);
+    return set;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public BlockPosMap<V> clone() {
+    try {
+      BlockPosMap<V> clone = (BlockPosMap<V>) super.clone();
+      clone.keys = keys.clone();
+      clone.values = values.clone();
+      return clone;
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Returns the slot of {@code packed}, which must not be zero, or {@code -1} if absent */
+  private int find(long packed) {
+    long[] keys = this.keys;
+    for (int pos = BlockPosHashing.mix(packed) & mask; ; pos = (pos + 1) & mask) {
+      long key = keys[pos];
+      if (key == 0) return -1;
+      if (key == packed) return pos;
+    }
+  }
+
+  /** Removes the entry at {@code pos} and shifts subsequent entries of its probe sequence back */
+  private void shiftKeys(int pos) {
+    long[] keys = this.keys;
+    @Nullable Object[] values = this.values;
+    for (int last; ; ) {
+      pos = ((last = pos) + 1) & mask;
+      long key;
+      for (; ; pos = (pos + 1) & mask) {
+        if ((key = keys[pos]) == 0) {
+          keys[last] = 0;
+          values[last] = null;
+          return;
+        }
+        int slot = BlockPosHashing.mix(key) & mask;
+        // move the entry, unless its home slot lies cyclically within (last, pos]
+        if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+          break;
+      }
+      keys[last] = key;
+      values[last] = values[pos];
+    }
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > BlockPosHashing.MAX_CAPACITY)
+      throw new IllegalStateException("Map exceeds maximum capacity");
+    long[] oldKeys = keys;
+    @Nullable Object[] oldValues = values;
+    allocate(capacity);
+    long[] keys = this.keys;
+    for (int i = 0; i < oldKeys.length; ++i) {
+      long key = oldKeys[i];
+      if (key == 0) continue;
+      int pos = BlockPosHashing.mix(key) & mask;
+      while (keys[pos] != 0) pos = (pos + 1) & mask;
+      keys[pos] = key;
+      values[pos] = oldValues[i];
+    }
+  }
+
+  private void allocate(int capacity) {
+    this.keys = new long[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+    this.maxFill = BlockPosHashing.maxFill(capacity);
+  }
+
+}
@@ -0,0 +1,251 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Set of block positions, packed through {@link Position#packBlock(int, int, int)}, that stores
+ * them unboxed in an open-addressing table with linear probing.
+ * <p>As the packed position of block {@code (0, 0, 0)} is zero, which marks empty slots, its
+ * presence is tracked by a separate flag. Removal shifts subsequent keys of the same probe
+ * sequence backwards, thus the table never contains tombstones.
+ * <p>This set is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:50
+ * @see BlockPosMap
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class BlockPosSet implements Cloneable {
+
+  private long[] keys;
+
+  private int mask;
+
+  private int maxFill;
+
+  private boolean containsZero;
+
+  private int size;
+
+  public BlockPosSet() {
+    this(BlockPosHashing.MIN_CAPACITY);
+  }
+
+  public BlockPosSet(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "Expected size must not be negative");
+    allocate(BlockPosHashing.tableSize(expectedSize));
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean contains(long packed) {
+    if (packed == 0)
+      return containsZero;
+    long[] keys = this.keys;
+    for (int pos = BlockPosHashing.mix(packed) & mask; ; pos = (pos + 1) & mask) {
+      long key = keys[pos];
+      if (key == 0) return false;
+      if (key == packed) return true;
+    }
+  }
+
+  /** @see #contains(long) */
+  public boolean contains(int blockX, int blockY, int blockZ) {
+    return contains(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  @CanIgnoreReturnValue
+  public boolean add(long packed) {
+    if (packed == 0) {
+      if (containsZero) return false;
+      containsZero = true;
+      ++size;
+      return true;
+    }
+    long[] keys = this.keys;
+    int pos = BlockPosHashing.mix(packed) & mask;
+    for (long key; (key = keys[pos]) != 0; pos = (pos + 1) & mask)
+      if (key == packed) return false;
+    keys[pos] = packed;
+    if (++size > maxFill)
+      rehash(keys.length << 1);
+    return true;
+  }
+
+  /** @see #add(long) */
+  @CanIgnoreReturnValue
+  public boolean add(int blockX, int blockY, int blockZ) {
+    return add(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(long packed) {
+    if (packed == 0) {
+      if (!containsZero) return false;
+      containsZero = false;
+      --size;
+      return true;
+    }
+    long[] keys = this.keys;
+    for (int pos = BlockPosHashing.mix(packed) & mask; ; pos = (pos + 1) & mask) {
+      long key = keys[pos];
+      if (key == 0) return false;
+      if (key == packed) {
+        shiftKeys(pos);
+        --size;
+        return true;
+      }
+    }
+  }
+
+  /** @see #remove(long) */
+  @CanIgnoreReturnValue
+  public boolean remove(int blockX, int blockY, int blockZ) {
+    return remove(Position.packBlock(blockX, blockY, blockZ));
+  }
+
+  public void clear() {
+    if (size == 0) return;
+    Arrays.fill(keys, 0L);
+    containsZero = false;
+    size = 0;
+  }
+
+  /** Calls {@code action} for each packed position, in no particular order */
+  public void forEach(LongConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    if (containsZero)
+      action.accept(0L);
+    for (long key : keys)
+      if (key != 0) action.accept(key);
+  }
+
+  /**
+   * Returns an iterator over the packed positions, which does not support removal. The set
+   * must not be modified while iterating.
+   */
+  public PrimitiveIterator.OfLong iterator() {
+    return new PrimitiveIterator.OfLong() {
+      /** Slot of the next key, where -1 refers to the zero key */
+      int cursor = (containsZero ? -1 : nextOccupied(0));
+
+      private int nextOccupied(int slot) {
+        while (slot < keys.length && keys[slot] == 0) ++slot;
+        return slot;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return cursor < keys.length;
+      }
+
+      @Override
+      public long nextLong() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        int slot = cursor;
+        cursor = nextOccupied(1 + slot);
+        return (slot != -1 ? keys[slot] : 0L);
+      }
+    };
+  }
+
+  public long[] toArray() {
+    long[] array = new long[size];
+    int index = 0;
+    if (containsZero)
+      array[index++] = 0L;
+    for (long key : keys)
+      if (key != 0) array[index++] = key;
+    return array;
+  }
+
+  @Override
+  public BlockPosSet clone() {
+    try {
+      BlockPosSet clone = (BlockPosSet) super.clone();
+      clone.keys = keys.clone();
+      return clone;
+    } catch (CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof BlockPosSet)) return false;
+    BlockPosSet that = (BlockPosSet) o;
+    if (size != that.size || containsZero != that.containsZero) return false;
+    for (long key : keys)
+      if (key != 0 && !that.contains(key)) return false;
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (long key : keys)
+      hash += Long.hashCode(key);
+    return hash;
+  }
+
+  /** Removes the key at {@code pos} and shifts subsequent keys of its probe sequence back */
+  private void shiftKeys(int pos) {
+    long[] keys = this.keys;
+    for (int last; ; ) {
+      pos = ((last = pos) + 1) & mask;
+      long key;
+      for (; ; pos = (pos + 1) & mask) {
+        if ((key = keys[pos]) == 0) {
+          keys[last] = 0;
+          return;
+        }
+        int slot = BlockPosHashing.mix(key) & mask;
+        // move the key, unless its home slot lies cyclically within (last, pos]
+        if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+          break;
+      }
+      keys[last] = key;
+    }
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > BlockPosHashing.MAX_CAPACITY)
+      throw new IllegalStateException("Set exceeds maximum capacity");
+    long[] oldKeys = keys;
+    allocate(capacity);
+    long[] keys = this.keys;
+    for (long key : oldKeys) {
+      if (key == 0) continue;
+      int pos = BlockPosHashing.mix(key) & mask;
+      while (keys[pos] != 0) pos = (pos + 1) & mask;
+      keys[pos] = key;
+    }
+  }
+
+  private void allocate(int capacity) {
+    this.keys = new long[capacity];
+    this.mask = capacity - 1;
+    this.maxFill = BlockPosHashing.maxFill(capacity);
+  }
+
+}
@@ -0,0 +1,265 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.util.NumberConversions;
+import org.bukkit.util.Vector;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Mutable counterpart to {@link Position}, whose arithmetic operates in place and returns this
+ * instance, so that chained operations do not allocate.
+ * <p>Instances are meant to be short-lived scratch objects within hot loops, that are either
+ * reused or borrowed from a {@link PositionPool}, such as
+ * {@link PositionPool#localPositions()}. Use {@link #toPosition()} to obtain an immutable
+ * snapshot to retain or share.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:05
+ * @see Position
+ * @see PositionPool
+ * @since 1.0
+ */
+@CanIgnoreReturnValue
+@DefaultQualifier(NonNull.class)
+public class MutablePosition implements Vec3D {
+
+  protected double posX, posY, posZ;
+
+  public MutablePosition() {}
+
+  public MutablePosition(double posX, double posY, double posZ) {
+    this.posX = posX;
+    this.posY = posY;
+    this.posZ = posZ;
+  }
+
+  public MutablePosition(Vec3D position) {
+    this(position.getX(), position.getY(), position.getZ());
+  }
+
+  @Override
+  public final double getX() {
+    return posX;
+  }
+
+  @Override
+  public final double getY() {
+    return posY;
+  }
+
+  @Override
+  public final double getZ() {
+    return posZ;
+  }
+
+  public int getBlockX() {
+    return NumberConversions.floor(posX);
+  }
+
+  public int getBlockY() {
+    return NumberConversions.floor(posY);
+  }
+
+  public int getBlockZ() {
+    return NumberConversions.floor(posZ);
+  }
+
+  /** @see Position#packBlock(int, int, int) */
+  public long getPackedBlock() {
+    return Position.packBlock(getBlockX(), getBlockY(), getBlockZ());
+  }
+
+  /** Sets this position to the lower corner of the block, that {@code packed} encodes */
+  public MutablePosition setPackedBlock(long packed) {
+    return set(Position.unpackBlockX(packed), Position.unpackBlockY(packed),
+        Position.unpackBlockZ(packed));
+  }
+
+  public MutablePosition setX(double posX) {
+    this.posX = posX;
+    return this;
+  }
+
+  public MutablePosition setY(double posY) {
+    this.posY = posY;
+    return this;
+  }
+
+  public MutablePosition setZ(double posZ) {
+    this.posZ = posZ;
+    return this;
+  }
+
+  public MutablePosition set(double posX, double posY, double posZ) {
+    this.posX = posX;
+    this.posY = posY;
+    this.posZ = posZ;
+    return this;
+  }
+
+  /** @see #set(double, double, double) */
+  public MutablePosition set(Vec3D position) {
+    return set(position.getX(), position.getY(), position.getZ());
+  }
+
+  /** @see #set(double, double, double) */
+  public MutablePosition set(Vector vector) {
+    return set(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /** @see #set(double, double, double) */
+  public MutablePosition set(Location location) {
+    return set(location.getX(), location.getY(), location.getZ());
+  }
+
+  /** Resets this position to its initial state, which is the origin */
+  public MutablePosition reset() {
+    return set(0, 0, 0);
+  }
+
+  /** Returns an immutable snapshot of this position */
+  public Position toPosition() {
+    return Position.of(posX, posY, posZ);
+  }
+
+  /** Returns a new mutable position with the same state as this position */
+  public MutablePosition copy() {
+    return new MutablePosition(posX, posY, posZ);
+  }
+
+  public Location toLocation(@Nullable World world) {
+    return new Location(world, posX, posY, posZ);
+  }
+
+  public Vector toVector() {
+    return new Vector(posX, posY, posZ);
+  }
+
+  public void applyTo(Vector vector) {
+    vector.setX(posX);
+    vector.setY(posY);
+    vector.setZ(posZ);
+  }
+
+  public void applyTo(Location location) {
+    location.setX(posX);
+    location.setY(posY);
+    location.setZ(posZ);
+  }
+
+  public Block getBlock(World world) {
+    return world.getBlockAt(getBlockX(), getBlockY(), getBlockZ());
+  }
+
+  public double length() {
+    return Math.sqrt(lengthSquared());
+  }
+
+  public double lengthSquared() {
+    return posX * posX + posY * posY + posZ * posZ;
+  }
+
+  public double distance(Vec3D other) {
+    return Math.sqrt(distanceSquared(other.getX(), other.getY(), other.getZ()));
+  }
+
+  public double distance(double x, double y, double z) {
+    return Math.sqrt(distanceSquared(x, y, z));
+  }
+
+  public double distanceSquared(Vec3D other) {
+    return distanceSquared(other.getX(), other.getY(), other.getZ());
+  }
+
+  public double distanceSquared(double x, double y, double z) {
+    double dx = posX - x, dy = posY - y, dz = posZ - z;
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  // +--------------------- Arithmetic ---------------------+
+
+  public MutablePosition add(double x, double y, double z) {
+    posX += x;
+    posY += y;
+    posZ += z;
+    return this;
+  }
+
+  /** @see #add(double, double, double) */
+  public MutablePosition add(Vec3D offset) {
+    return add(offset.getX(), offset.getY(), offset.getZ());
+  }
+
+  /** @see #add(double, double, double) */
+  public MutablePosition add(Vector vector) {
+    return add(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /** @see #add(double, double, double) */
+  public MutablePosition add(Location location) {
+    return add(location.getX(), location.getY(), location.getZ());
+  }
+
+  public MutablePosition subtract(double x, double y, double z) {
+    posX -= x;
+    posY -= y;
+    posZ -= z;
+    return this;
+  }
+
+  /** @see #subtract(double, double, double) */
+  public MutablePosition subtract(Vec3D offset) {
+    return subtract(offset.getX(), offset.getY(), offset.getZ());
+  }
+
+  /** @see #subtract(double, double, double) */
+  public MutablePosition subtract(Vector vector) {
+    return subtract(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /** @see #subtract(double, double, double) */
+  public MutablePosition subtract(Location location) {
+    return subtract(location.getX(), location.getY(), location.getZ());
+  }
+
+  public MutablePosition multiply(double x, double y, double z) {
+    posX *= x;
+    posY *= y;
+    posZ *= z;
+    return this;
+  }
+
+  /** @see #multiply(double, double, double) */
+  public MutablePosition multiply(double factor) {
+    return multiply(factor, factor, factor);
+  }
+
+  /** @see #multiply(double, double, double) */
+  public MutablePosition multiply(Vec3D factor) {
+    return multiply(factor.getX(), factor.getY(), factor.getZ());
+  }
+
+  /** @see #multiply(double, double, double) */
+  public MutablePosition multiply(Vector vector) {
+    return multiply(vector.getX(), vector.getY(), vector.getZ());
+  }
+
+  /** Scales this position to a length of one, leaving the origin unchanged */
+  public MutablePosition normalize() {
+    double length = length();
+    return (length != 0 ? multiply(1 / length) : this);
+  }
+
+  /** Sets this position to the linear interpolation between itself and {@code target} */
+  public MutablePosition lerp(Vec3D target, double alpha) {
+    return set(posX + (target.getX() - posX) * alpha,
+        posY + (target.getY() - posY) * alpha,
+        posZ + (target.getZ() - posZ) * alpha);
+  }
+
+}
@@ -0,0 +1,269 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.util.Vector;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+/**
+ * Mutable counterpart to {@link WorldLocation}, composed of a position, an optional world and a
+ * rotation, that are all modified in place.
+ * <p>Other than {@code WorldPosition}, the world is held strongly, so that it can be accessed
+ * without dereferencing a weak reference. Instances must therefore not be retained beyond the
+ * lifetime of their world; use {@link #toWorldLocation()} to obtain a snapshot to retain.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:05
+ * @see WorldLocation
+ * @since 1.0
+ */
+@CanIgnoreReturnValue
+@DefaultQualifier(NonNull.class)
+public class MutableWorldLocation extends MutablePosition implements Rot2F {
+
+  private @Nullable World world;
+
+  private float yaw, pitch;
+
+  public MutableWorldLocation() {}
+
+  public MutableWorldLocation(
+      @Nullable World world, double posX, double posY, double posZ, float yaw, float pitch) {
+    super(posX, posY, posZ);
+    this.world = world;
+    this.yaw = yaw;
+    this.pitch = pitch;
+  }
+
+  public MutableWorldLocation(Location location) {
+    set(location);
+  }
+
+  public MutableWorldLocation(WorldPosition position) {
+    set(position);
+  }
+
+  public World getWorld() {
+    Preconditions.checkNotNull(world, "World is not defined");
+    return world;
+  }
+
+  public @Nullable World findWorld() {
+    return world;
+  }
+
+  public MutableWorldLocation setWorld(@Nullable World world) {
+    this.world = world;
+    return this;
+  }
+
+  @Override
+  public float getYaw() {
+    return yaw;
+  }
+
+  @Override
+  public float getPitch() {
+    return pitch;
+  }
+
+  public MutableWorldLocation setYaw(float yaw) {
+    this.yaw = yaw;
+    return this;
+  }
+
+  public MutableWorldLocation setPitch(float pitch) {
+    this.pitch = pitch;
+    return this;
+  }
+
+  public MutableWorldLocation setRotation(float yaw, float pitch) {
+    this.yaw = yaw;
+    this.pitch = pitch;
+    return this;
+  }
+
+  /** @see #setRotation(float, float) */
+  public MutableWorldLocation setRotation(Rot2F rotation) {
+    return setRotation(rotation.getYaw(), rotation.getPitch());
+  }
+
+  public MutableWorldLocation rotate(float yaw, float pitch) {
+    return setRotation(this.yaw + yaw, this.pitch + pitch);
+  }
+
+  /** Copies the world, position and rotation of {@code location} */
+  @Override
+  public MutableWorldLocation set(Location location) {
+    super.set(location);
+    this.world = location.getWorld();
+    return setRotation(location.getYaw(), location.getPitch());
+  }
+
+  /**
+   * Copies the world and position of {@code position}, and its rotation if it is a
+   * {@link WorldLocation}, otherwise resetting the rotation.
+   */
+  public MutableWorldLocation set(WorldPosition position) {
+    super.set(position);
+    this.world = position.findWorld();
+    if (position instanceof WorldLocation)
+      return setRotation((WorldLocation) position);
+    return setRotation(0, 0);
+  }
+
+  @Override
+  public MutableWorldLocation reset() {
+    super.reset();
+    this.world = null;
+    return setRotation(0, 0);
+  }
+
+  /** Returns an immutable snapshot of this location */
+  public WorldLocation toWorldLocation() {
+    return WorldLocation.of(world, posX, posY, posZ, yaw, pitch);
+  }
+
+  /** Returns an immutable snapshot of the world and position of this location */
+  public WorldPosition toWorldPosition() {
+    return WorldPosition.of(world, posX, posY, posZ);
+  }
+
+  @Override
+  public MutableWorldLocation copy() {
+    return new MutableWorldLocation(world, posX, posY, posZ, yaw, pitch);
+  }
+
+  public Location toLocation() {
+    return new Location(world, posX, posY, posZ, yaw, pitch);
+  }
+
+  @Override
+  public Location toLocation(@Nullable World world) {
+    return new Location(world, posX, posY, posZ, yaw, pitch);
+  }
+
+  /** Copies the world, position and rotation of this location to {@code location} */
+  @Override
+  public void applyTo(Location location) {
+    location.setWorld(world);
+    super.applyTo(location);
+    location.setYaw(yaw);
+    location.setPitch(pitch);
+  }
+
+  public Block getBlock() {
+    return getBlock(getWorld());
+  }
+
+  @Override
+  public MutableWorldLocation setX(double posX) {
+    return (MutableWorldLocation) super.setX(posX);
+  }
+
+  @Override
+  public MutableWorldLocation setY(double posY) {
+    return (MutableWorldLocation) super.setY(posY);
+  }
+
+  @Override
+  public MutableWorldLocation setZ(double posZ) {
+    return (MutableWorldLocation) super.setZ(posZ);
+  }
+
+  @Override
+  public MutableWorldLocation set(double posX, double posY, double posZ) {
+    return (MutableWorldLocation) super.set(posX, posY, posZ);
+  }
+
+  @Override
+  public MutableWorldLocation set(Vec3D position) {
+    return (MutableWorldLocation) super.set(position);
+  }
+
+  @Override
+  public MutableWorldLocation set(Vector vector) {
+    return (MutableWorldLocation) super.set(vector);
+  }
+
+  @Override
+  public MutableWorldLocation setPackedBlock(long packed) {
+    return (MutableWorldLocation) super.setPackedBlock(packed);
+  }
+
+  @Override
+  public MutableWorldLocation add(double x, double y, double z) {
+    return (MutableWorldLocation) super.add(x, y, z);
+  }
+
+  @Override
+  public MutableWorldLocation add(Vec3D offset) {
+    return (MutableWorldLocation) super.add(offset);
+  }
+
+  @Override
+  public MutableWorldLocation add(Vector vector) {
+    return (MutableWorldLocation) super.add(vector);
+  }
+
+  @Override
+  public MutableWorldLocation add(Location location) {
+    return (MutableWorldLocation) super.add(location);
+  }
+
+  @Override
+  public MutableWorldLocation subtract(double x, double y, double z) {
+    return (MutableWorldLocation) super.subtract(x, y, z);
+  }
+
+  @Override
+  public MutableWorldLocation subtract(Vec3D offset) {
+    return (MutableWorldLocation) super.subtract(offset);
+  }
+
+  @Override
+  public MutableWorldLocation subtract(Vector vector) {
+    return (MutableWorldLocation) super.subtract(vector);
+  }
+
+  @Override
+  public MutableWorldLocation subtract(Location location) {
+    return (MutableWorldLocation) super.subtract(location);
+  }
+
+  @Override
+  public MutableWorldLocation multiply(double x, double y, double z) {
+    return (MutableWorldLocation) super.multiply(x, y, z);
+  }
+
+  @Override
+  public MutableWorldLocation multiply(double factor) {
+    return (MutableWorldLocation) super.multiply(factor);
+  }
+
+  @Override
+  public MutableWorldLocation multiply(Vec3D factor) {
+    return (MutableWorldLocation) super.multiply(factor);
+  }
+
+  @Override
+  public MutableWorldLocation multiply(Vector vector) {
+    return (MutableWorldLocation) super.multiply(vector);
+  }
+
+  @Override
+  public MutableWorldLocation normalize() {
+    return (MutableWorldLocation) super.normalize();
+  }
+
+  @Override
+  public MutableWorldLocation lerp(Vec3D target, double alpha) {
+    return (MutableWorldLocation) super.lerp(target, alpha);
+  }
+
+}
@@ -33,6 +33,19 @@ public class Position implements Vec3D, ConfigurationSerializable {
 
   public static final Position ZERO_POSITION = new Position(0, 0, 0);
 
+  /** Bits of the packed x- and z-coordinates, which cover at least the world border */
+  private static final int PACKED_XZ_BITS = 26;
+
+  private static final int PACKED_Y_BITS = 12;
+
+  private static final long PACKED_XZ_MASK = (1L << PACKED_XZ_BITS) - 1;
+
+  private static final long PACKED_Y_MASK = (1L << PACKED_Y_BITS) - 1;
+
+  private static final int PACKED_X_SHIFT = PACKED_Y_BITS + PACKED_XZ_BITS;
+
+  private static final int PACKED_Z_SHIFT = PACKED_Y_BITS;
+
   protected final double posX, posY, posZ;
 
   protected Position(double posX, double posY, double posZ) {
@@ -57,6 +70,44 @@ public class Position implements Vec3D, ConfigurationSerializable {
     return new Position(posX, posY, posZ);
   }
 
+  /** Returns the position of the lower corner of the block, that {@code packed} encodes */
+  public static Position ofPackedBlock(long packed) {
+    return new Position(unpackBlockX(packed), unpackBlockY(packed), unpackBlockZ(packed));
+  }
+
+  /**
+   * Encodes the given block coordinates into a single {@code long}, with the x-coordinate in
+   * the upper 26 bits, followed by the z-coordinate in 26 bits and the y-coordinate in the lower
+   * 12 bits, all in two's complement.
+   * <p>This covers x- and z-coordinates within {@code [-33554432, 33554431]} and y-coordinates
+   * within {@code [-2048, 2047]}. Coordinates out of these ranges are not rejected but wrap
+   * around.
+   *
+   * @see #unpackBlockX(long)
+   * @see #unpackBlockY(long)
+   * @see #unpackBlockZ(long)
+   */
+  public static long packBlock(int blockX, int blockY, int blockZ) {
+    return ((blockX & PACKED_XZ_MASK) << PACKED_X_SHIFT)
+        | ((blockZ & PACKED_XZ_MASK) << PACKED_Z_SHIFT)
+        | (blockY & PACKED_Y_MASK);
+  }
+
+  /** @see #packBlock(int, int, int) */
+  public static int unpackBlockX(long packed) {
+    return (int) (packed >> PACKED_X_SHIFT);
+  }
+
+  /** @see #packBlock(int, int, int) */
+  public static int unpackBlockY(long packed) {
+    return (int) (packed << (Long.SIZE - PACKED_Y_BITS) >> (Long.SIZE - PACKED_Y_BITS));
+  }
+
+  /** @see #packBlock(int, int, int) */
+  public static int unpackBlockZ(long packed) {
+    return (int) (packed << PACKED_XZ_BITS >> PACKED_X_SHIFT);
+  }
+
   public static Position deserialize(Map<?, ?> args) {
     return new Position(
         NumberConversions.toDouble(args.get("x")),
@@ -97,6 +148,11 @@ public class Position implements Vec3D, ConfigurationSerializable {
     return NumberConversions.floor(posZ);
   }
 
+  /** Returns the block coordinates of this position, packed through {@link #packBlock} */
+  public long getPackedBlock() {
+    return packBlock(getBlockX(), getBlockY(), getBlockZ());
+  }
+
   public Position setX(double posX) {
     return new Position(posX, this.posY, this.posZ);
   }
@@ -109,6 +165,11 @@ public class Position implements Vec3D, ConfigurationSerializable {
     return new Position(this.posX, this.posY, posZ);
   }
 
+  /** Returns a new mutable copy of this position, to operate on without allocating */
+  public MutablePosition toMutable() {
+    return new MutablePosition(posX, posY, posZ);
+  }
+
   public Location toLocation(@Nullable World world) {
     return new Location(world, posX, posY, posZ);
   }
@@ -0,0 +1,301 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.bukkit.util.BoundingBox;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of positions, that stores their coordinates in three parallel
+ * {@code double} arrays (structure of arrays), instead of one object per position.
+ * <p>Bulk operations are written as plain counted loops over the coordinate arrays, without
+ * calls or branches in their bodies, so that the JIT compiler can unroll and vectorize them.
+ * Operations that produce one value per position write into a caller-provided output array, so
+ * that they do not allocate if the array is reused.
+ * <p>This buffer is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:40
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class PositionBuffer {
+
+  public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private double[] xs, ys, zs;
+
+  private int size;
+
+  public PositionBuffer() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public PositionBuffer(int initialCapacity) {
+    Preconditions.checkArgument(initialCapacity >= 0, "Capacity must not be negative");
+    this.xs = new double[initialCapacity];
+    this.ys = new double[initialCapacity];
+    this.zs = new double[initialCapacity];
+  }
+
+  @Pure
+  public final @NonNegative int size() {
+    return size;
+  }
+
+  @Pure
+  public final @NonNegative int capacity() {
+    return xs.length;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    size = 0;
+  }
+
+  public void ensureCapacity(int capacity) {
+    if (capacity > capacity())
+      resize(Math.max(capacity, (int) Math.min(Integer.MAX_VALUE - 8, capacity() * 3L / 2 + 1)));
+  }
+
+  public void trimToSize() {
+    if (size != capacity())
+      resize(size);
+  }
+
+  /** Appends the given position and returns its index */
+  @CanIgnoreReturnValue
+  public int add(double x, double y, double z) {
+    if (size == capacity())
+      ensureCapacity(1 + size);
+    int index = size++;
+    xs[index] = x;
+    ys[index] = y;
+    zs[index] = z;
+    return index;
+  }
+
+  /** @see #add(double, double, double) */
+  @CanIgnoreReturnValue
+  public int add(Vec3D position) {
+    return add(position.getX(), position.getY(), position.getZ());
+  }
+
+  public void set(int index, double x, double y, double z) {
+    Preconditions.checkElementIndex(index, size);
+    xs[index] = x;
+    ys[index] = y;
+    zs[index] = z;
+  }
+
+  /** @see #set(int, double, double, double) */
+  public void set(int index, Vec3D position) {
+    set(index, position.getX(), position.getY(), position.getZ());
+  }
+
+  public double getX(int index) {
+    Preconditions.checkElementIndex(index, size);
+    return xs[index];
+  }
+
+  public double getY(int index) {
+    Preconditions.checkElementIndex(index, size);
+    return ys[index];
+  }
+
+  public double getZ(int index) {
+    Preconditions.checkElementIndex(index, size);
+    return zs[index];
+  }
+
+  /** Copies the position at {@code index} into {@code target} and returns {@code target} */
+  @CanIgnoreReturnValue
+  public MutablePosition get(int index, MutablePosition target) {
+    Preconditions.checkElementIndex(index, size);
+    return target.set(xs[index], ys[index], zs[index]);
+  }
+
+  public Position getPosition(int index) {
+    Preconditions.checkElementIndex(index, size);
+    return Position.of(xs[index], ys[index], zs[index]);
+  }
+
+  /**
+   * Removes the position at {@code index} by moving the last position into its place. This
+   * does not preserve the order of positions, but runs in constant time.
+   */
+  public void swapRemove(int index) {
+    Preconditions.checkElementIndex(index, size);
+    int last = --size;
+    xs[index] = xs[last];
+    ys[index] = ys[last];
+    zs[index] = zs[last];
+  }
+
+  // +--------------------- Bulk operations ---------------------+
+
+  public void translate(double dx, double dy, double dz) {
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    int size = this.size;
+    for (int i = 0; i < size; ++i) xs[i] += dx;
+    for (int i = 0; i < size; ++i) ys[i] += dy;
+    for (int i = 0; i < size; ++i) zs[i] += dz;
+  }
+
+  /** @see #translate(double, double, double) */
+  public void translate(Vec3D offset) {
+    translate(offset.getX(), offset.getY(), offset.getZ());
+  }
+
+  /** Multiplies all coordinates by the given factors, thus scaling relative to the origin */
+  public void scale(double fx, double fy, double fz) {
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    int size = this.size;
+    for (int i = 0; i < size; ++i) xs[i] *= fx;
+    for (int i = 0; i < size; ++i) ys[i] *= fy;
+    for (int i = 0; i < size; ++i) zs[i] *= fz;
+  }
+
+  /** @see #scale(double, double, double) */
+  public void scale(double factor) {
+    scale(factor, factor, factor);
+  }
+
+  /** Scales all positions by {@code factor} relative to {@code center} */
+  public void scale(Vec3D center, double factor) {
+    double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    int size = this.size;
+    for (int i = 0; i < size; ++i) xs[i] = cx + (xs[i] - cx) * factor;
+    for (int i = 0; i < size; ++i) ys[i] = cy + (ys[i] - cy) * factor;
+    for (int i = 0; i < size; ++i) zs[i] = cz + (zs[i] - cz) * factor;
+  }
+
+  /**
+   * Writes the squared distance of each position to the given point into {@code target}, at
+   * the index of the position.
+   *
+   * @return {@code target}
+   * @throws IllegalArgumentException if {@code target} is shorter than {@link #size()}
+   */
+  @CanIgnoreReturnValue
+  public double[] distanceSquared(double x, double y, double z, double[] target) {
+    Preconditions.checkArgument(target.length >= size, "Target is too small");
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    int size = this.size;
+    for (int i = 0; i < size; ++i) {
+      double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+      target[i] = dx * dx + dy * dy + dz * dz;
+    }
+    return target;
+  }
+
+  /** @see #distanceSquared(double, double, double, double[]) */
+  @CanIgnoreReturnValue
+  public double[] distanceSquared(Vec3D point, double[] target) {
+    return distanceSquared(point.getX(), point.getY(), point.getZ(), target);
+  }
+
+  /**
+   * Writes the indices of all positions within {@code radius} of the given point into
+   * {@code target}, in ascending order.
+   *
+   * @return the amount of indices written
+   * @throws IllegalArgumentException if {@code target} is shorter than {@link #size()}
+   */
+  public int indicesWithin(double x, double y, double z, double radius, int[] target) {
+    Preconditions.checkArgument(target.length >= size, "Target is too small");
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    double radiusSquared = radius * radius;
+    int size = this.size, count = 0;
+    for (int i = 0; i < size; ++i) {
+      double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+      target[count] = i; // written unconditionally and kept only on a match, avoiding a branch
+      count += (dx * dx + dy * dy + dz * dz <= radiusSquared) ? 1 : 0;
+    }
+    return count;
+  }
+
+  /** @see #indicesWithin(double, double, double, double, int[]) */
+  public int indicesWithin(Vec3D point, double radius, int[] target) {
+    return indicesWithin(point.getX(), point.getY(), point.getZ(), radius, target);
+  }
+
+  /**
+   * Removes all positions farther than {@code radius} from the given point, preserving the
+   * order of the remaining positions.
+   *
+   * @return the amount of positions removed
+   */
+  @CanIgnoreReturnValue
+  public int retainWithin(double x, double y, double z, double radius) {
+    double[] xs = this.xs, ys = this.ys, zs = this.zs;
+    double radiusSquared = radius * radius;
+    int size = this.size, count = 0;
+    for (int i = 0; i < size; ++i) {
+      double px = xs[i], py = ys[i], pz = zs[i];
+      double dx = px - x, dy = py - y, dz = pz - z;
+      xs[count] = px;
+      ys[count] = py;
+      zs[count] = pz;
+      count += (dx * dx + dy * dy + dz * dz <= radiusSquared) ? 1 : 0;
+    }
+    this.size = count;
+    return size - count;
+  }
+
+  /**
+   * Returns the smallest box, that contains all positions of this buffer.
+   *
+   * @throws IllegalStateException if this buffer is empty
+   */
+  public BoundingBox boundingBox() {
+    Preconditions.checkState(size != 0, "Buffer is empty");
+    return new BoundingBox(min(xs, size), min(ys, size), min(zs, size),
+        max(xs, size), max(ys, size), max(zs, size));
+  }
+
+  /** Returns a copy of the x-coordinates, with a length of {@link #size()} */
+  public double[] toXArray() {
+    return Arrays.copyOf(xs, size);
+  }
+
+  /** Returns a copy of the y-coordinates, with a length of {@link #size()} */
+  public double[] toYArray() {
+    return Arrays.copyOf(ys, size);
+  }
+
+  /** Returns a copy of the z-coordinates, with a length of {@link #size()} */
+  public double[] toZArray() {
+    return Arrays.copyOf(zs, size);
+  }
+
+  private static double min(double[] values, int length) {
+    double min = values[0];
+    for (int i = 1; i < length; ++i)
+      min = Math.min(min, values[i]);
+    return min;
+  }
+
+  private static double max(double[] values, int length) {
+    double max = values[0];
+    for (int i = 1; i < length; ++i)
+      max = Math.max(max, values[i]);
+    return max;
+  }
+
+  private void resize(int capacity) {
+    xs = Arrays.copyOf(xs, capacity);
+    ys = Arrays.copyOf(ys, capacity);
+    zs = Arrays.copyOf(zs, capacity);
+  }
+
+}
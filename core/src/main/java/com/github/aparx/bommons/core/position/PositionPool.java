@@ -0,0 +1,100 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of mutable positions, that are reset when released and reused when acquired.
+ * If the pool is empty, new instances are created through the factory, and positions released
+ * into a full pool are dropped.
+ * <p>Pools are not thread-safe. Either confine a pool to a single thread, or use the
+ * thread-local pools of {@link #localPositions()} and {@link #localLocations()}.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:05
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class PositionPool<T extends MutablePosition> {
+
+  public static final int DEFAULT_MAX_SIZE = 64;
+
+  private static final ThreadLocal<PositionPool<MutablePosition>> LOCAL_POSITIONS =
+      ThreadLocal.withInitial(() -> new PositionPool<>(MutablePosition::new));
+
+  private static final ThreadLocal<PositionPool<MutableWorldLocation>> LOCAL_LOCATIONS =
+      ThreadLocal.withInitial(() -> new PositionPool<>(MutableWorldLocation::new));
+
+  private final Supplier<? extends T> factory;
+
+  private final MutablePosition[] pool;
+
+  private int size;
+
+  public PositionPool(Supplier<? extends T> factory) {
+    this(factory, DEFAULT_MAX_SIZE);
+  }
+
+  public PositionPool(Supplier<? extends T> factory, int maxSize) {
+    Preconditions.checkNotNull(factory, "Factory must not be null");
+    Preconditions.checkArgument(maxSize >= 0, "Max size must not be negative");
+    this.factory = factory;
+    this.pool = new MutablePosition[maxSize];
+  }
+
+  /** Returns the position pool of the current thread, which must not be shared */
+  public static PositionPool<MutablePosition> localPositions() {
+    return LOCAL_POSITIONS.get();
+  }
+
+  /** Returns the location pool of the current thread, which must not be shared */
+  public static PositionPool<MutableWorldLocation> localLocations() {
+    return LOCAL_LOCATIONS.get();
+  }
+
+  /** Returns a pooled or new position in its reset state */
+  @SuppressWarnings("unchecked")
+  public T acquire() {
+    if (size == 0)
+      return factory.get();
+    MutablePosition position = pool[--size];
+    pool[size] = null;
+    return (T) position;
+  }
+
+  /** @see #acquire() */
+  public T acquire(double posX, double posY, double posZ) {
+    T position = acquire();
+    position.set(posX, posY, posZ);
+    return position;
+  }
+
+  /** @see #acquire() */
+  public T acquire(Vec3D position) {
+    return acquire(position.getX(), position.getY(), position.getZ());
+  }
+
+  /**
+   * Resets {@code position} and returns it to this pool. The position must not be used after
+   * being released.
+   */
+  public void release(T position) {
+    Preconditions.checkNotNull(position, "Position must not be null");
+    position.reset();
+    if (size < pool.length)
+      pool[size++] = position;
+  }
+
+  /** Returns the amount of positions currently available for reuse */
+  public int size() {
+    return size;
+  }
+
+  public int maxSize() {
+    return pool.length;
+  }
+
+}
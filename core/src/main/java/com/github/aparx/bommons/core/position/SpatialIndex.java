@@ -0,0 +1,421 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.bukkit.util.BoundingBox;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of values within a single world, that buckets each value by the chunk of its
+ * position, so that radius, box and nearest-neighbour queries only scan the chunks they touch.
+ * <p>Each bucket stores the coordinates of its values in parallel arrays, which are scanned
+ * without dereferencing the values themselves. Values are identified by their {@code equals}
+ * and {@code hashCode}, and may be inserted at most once. Queries spanning more chunks than
+ * there are occupied buckets scan all buckets instead, so that sparse indices are not slowed
+ * down by large query regions.
+ * <p>This index is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:15
+ * @see WorldSpatialIndex
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class SpatialIndex<T> {
+
+  private static final int CHUNK_SHIFT = 4;
+
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  private final Map<Long, Bucket<T>> buckets = new HashMap<>();
+
+  private final Map<T, Entry<T>> entries = new HashMap<>();
+
+  @Pure
+  public final @NonNegative int size() {
+    return entries.size();
+  }
+
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /** Returns the amount of occupied chunks */
+  public int bucketCount() {
+    return buckets.size();
+  }
+
+  public boolean contains(T value) {
+    return entries.containsKey(value);
+  }
+
+  /** Returns the position of {@code value}, or null if it is not in this index */
+  public @Nullable Position getPosition(T value) {
+    Entry<T> entry = entries.get(value);
+    if (entry == null) return null;
+    Bucket<T> bucket = entry.bucket;
+    return Position.of(bucket.xs[entry.slot], bucket.ys[entry.slot], bucket.zs[entry.slot]);
+  }
+
+  /**
+   * Inserts {@code value} at the given position, or moves it there if already present.
+   *
+   * @return true if {@code value} has been newly inserted
+   */
+  @CanIgnoreReturnValue
+  public boolean insert(T value, double x, double y, double z) {
+    Preconditions.checkNotNull(value, "Value must not be null");
+    Entry<T> entry = entries.get(value);
+    if (entry != null) {
+      move(entry, x, y, z);
+      return false;
+    }
+    entry = new Entry<>(value);
+    bucketAt(x, z).add(entry, x, y, z);
+    entries.put(value, entry);
+    return true;
+  }
+
+  /** @see #insert(Object, double, double, double) */
+  @CanIgnoreReturnValue
+  public boolean insert(T value, Vec3D position) {
+    return insert(value, position.getX(), position.getY(), position.getZ());
+  }
+
+  /**
+   * Moves {@code value} to the given position. Values moved within the same chunk are updated
+   * in place.
+   *
+   * @return false if {@code value} is not in this index
+   */
+  @CanIgnoreReturnValue
+  public boolean move(T value, double x, double y, double z) {
+    Entry<T> entry = entries.get(value);
+    if (entry == null) return false;
+    move(entry, x, y, z);
+    return true;
+  }
+
+  /** @see #move(Object, double, double, double) */
+  @CanIgnoreReturnValue
+  public boolean move(T value, Vec3D position) {
+    return move(value, position.getX(), position.getY(), position.getZ());
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(T value) {
+    Entry<T> entry = entries.remove(value);
+    if (entry == null) return false;
+    detach(entry);
+    return true;
+  }
+
+  public void clear() {
+    buckets.clear();
+    entries.clear();
+  }
+
+  /** Calls {@code action} for each value within {@code radius} of the given point */
+  public void forEachWithin(double x, double y, double z, double radius,
+                            Consumer<? super T> action) {
+    Preconditions.checkArgument(radius >= 0, "Radius must not be negative");
+    double radiusSquared = radius * radius;
+    int minChunkX = chunk(x - radius), maxChunkX = chunk(x + radius);
+    int minChunkZ = chunk(z - radius), maxChunkZ = chunk(z + radius);
+    if (spansMoreThanBuckets(minChunkX, maxChunkX, minChunkZ, maxChunkZ)) {
+      for (Bucket<T> bucket : buckets.values())
+        if (bucket.isWithin(minChunkX, maxChunkX, minChunkZ, maxChunkZ))
+          bucket.forEachWithin(x, y, z, radiusSquared, action);
+      return;
+    }
+    for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+      for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+        Bucket<T> bucket = buckets.get(chunkKey(chunkX, chunkZ));
+        if (bucket != null)
+          bucket.forEachWithin(x, y, z, radiusSquared, action);
+      }
+    }
+  }
+
+  /** @see #forEachWithin(double, double, double, double, Consumer) */
+  public void forEachWithin(Vec3D center, double radius, Consumer<? super T> action) {
+    forEachWithin(center.getX(), center.getY(), center.getZ(), radius, action);
+  }
+
+  /** Returns all values within {@code radius} of {@code center}, in no particular order */
+  public List<T> findWithin(Vec3D center, double radius) {
+    List<T> values = new ArrayList<>();
+    forEachWithin(center, radius, values::add);
+    return values;
+  }
+
+  /** Calls {@code action} for each value within the given inclusive bounds */
+  public void forEachInBox(double minX, double minY, double minZ,
+                           double maxX, double maxY, double maxZ, Consumer<? super T> action) {
+    int minChunkX = chunk(minX), maxChunkX = chunk(maxX);
+    int minChunkZ = chunk(minZ), maxChunkZ = chunk(maxZ);
+    if (spansMoreThanBuckets(minChunkX, maxChunkX, minChunkZ, maxChunkZ)) {
+      for (Bucket<T> bucket : buckets.values())
+        if (bucket.isWithin(minChunkX, maxChunkX, minChunkZ, maxChunkZ))
+          bucket.forEachInBox(minX, minY, minZ, maxX, maxY, maxZ, action);
+      return;
+    }
+    for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+      for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+        Bucket<T> bucket = buckets.get(chunkKey(chunkX, chunkZ));
+        if (bucket != null)
+          bucket.forEachInBox(minX, minY, minZ, maxX, maxY, maxZ, action);
+      }
+    }
+  }
+
+  /** @see #forEachInBox(double, double, double, double, double, double, Consumer) */
+  public void forEachInBox(BoundingBox box, Consumer<? super T> action) {
+    forEachInBox(box.getMinX(), box.getMinY(), box.getMinZ(),
+        box.getMaxX(), box.getMaxY(), box.getMaxZ(), action);
+  }
+
+  /** Returns all values within {@code box}, in no particular order */
+  public List<T> findInBox(BoundingBox box) {
+    List<T> values = new ArrayList<>();
+    forEachInBox(box, values::add);
+    return values;
+  }
+
+  /**
+   * Returns up to {@code count} values nearest to the given point, ordered by ascending
+   * distance.
+   * <p>Chunks are searched in rings of increasing distance around the chunk of the point, until
+   * no unvisited chunk can contain a value nearer than the current {@code count}-th nearest.
+   */
+  public List<T> nearest(double x, double y, double z, int count) {
+    Preconditions.checkArgument(count >= 0, "Count must not be negative");
+    if (count == 0 || isEmpty())
+      return new ArrayList<>(0);
+    Candidates<T> candidates = new Candidates<>(count);
+    if (count >= size()) {
+      for (Bucket<T> bucket : buckets.values())
+        bucket.collectNearest(x, y, z, candidates);
+      return candidates.toSortedList();
+    }
+    int centerX = chunk(x), centerZ = chunk(z);
+    // distance from the point to the nearest border of its own chunk, in either axis
+    double offsetX = x - ((double) centerX * CHUNK_SIZE);
+    double offsetZ = z - ((double) centerZ * CHUNK_SIZE);
+    double borderDistance = Math.min(Math.min(offsetX, CHUNK_SIZE - offsetX),
+        Math.min(offsetZ, CHUNK_SIZE - offsetZ));
+    for (int ring = 0; ; ++ring) {
+      if (candidates.isFull()) {
+        double minDistance = (ring - 1) * (double) CHUNK_SIZE + borderDistance;
+        if (ring > 0 && minDistance * minDistance > candidates.worstDistance())
+          break;
+      }
+      long side = 2L * ring + 1;
+      if (side * side > 2L * buckets.size()) {
+        // the rings grew larger than the occupied area, thus scan all remaining buckets
+        for (Bucket<T> bucket : buckets.values())
+          if (!bucket.isWithin(centerX - ring + 1, centerX + ring - 1,
+              centerZ - ring + 1, centerZ + ring - 1))
+            bucket.collectNearest(x, y, z, candidates);
+        break;
+      }
+      for (int chunkX = centerX - ring; chunkX <= centerX + ring; ++chunkX) {
+        boolean edgeColumn = (chunkX == centerX - ring || chunkX == centerX + ring);
+        int step = (edgeColumn ? 1 : 2 * ring);
+        for (int chunkZ = centerZ - ring; chunkZ <= centerZ + ring; chunkZ += Math.max(1, step)) {
+          Bucket<T> bucket = buckets.get(chunkKey(chunkX, chunkZ));
+          if (bucket != null)
+            bucket.collectNearest(x, y, z, candidates);
+        }
+      }
+    }
+    return candidates.toSortedList();
+  }
+
+  /** @see #nearest(double, double, double, int) */
+  public List<T> nearest(Vec3D point, int count) {
+    return nearest(point.getX(), point.getY(), point.getZ(), count);
+  }
+
+  private boolean spansMoreThanBuckets(int minChunkX, int maxChunkX,
+                                       int minChunkZ, int maxChunkZ) {
+    long chunkCount = (1L + maxChunkX - minChunkX) * (1L + maxChunkZ - minChunkZ);
+    return chunkCount > buckets.size();
+  }
+
+  private void move(Entry<T> entry, double x, double y, double z) {
+    Bucket<T> bucket = entry.bucket;
+    if (bucket.chunkX == chunk(x) && bucket.chunkZ == chunk(z)) {
+      bucket.xs[entry.slot] = x;
+      bucket.ys[entry.slot] = y;
+      bucket.zs[entry.slot] = z;
+      return;
+    }
+    detach(entry);
+    bucketAt(x, z).add(entry, x, y, z);
+  }
+
+  private void detach(Entry<T> entry) {
+    Bucket<T> bucket = entry.bucket;
+    bucket.remove(entry.slot);
+    if (bucket.size == 0)
+      buckets.remove(chunkKey(bucket.chunkX, bucket.chunkZ));
+  }
+
+  private Bucket<T> bucketAt(double x, double z) {
+    int chunkX = chunk(x), chunkZ = chunk(z);
+    return buckets.computeIfAbsent(chunkKey(chunkX, chunkZ),
+        (key) -> new Bucket<>(chunkX, chunkZ));
+  }
+
+  private static int chunk(double coordinate) {
+    return (int) Math.floor(coordinate) >> CHUNK_SHIFT;
+  }
+
+  private static long chunkKey(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private static final class Entry<T> {
+    final T value;
+    /** The bucket containing this entry, assigned when the entry is added to it */
+    Bucket<T> bucket;
+    int slot;
+
+    Entry(T value) {
+      this.value = value;
+    }
+  }
+
+  /** Values of a single chunk, with their coordinates stored in parallel arrays */
+  private static final class Bucket<T> {
+    final int chunkX, chunkZ;
+    double[] xs = new double[4], ys = new double[4], zs = new double[4];
+    @SuppressWarnings("unchecked")
+    Entry<T>[] entries = new Entry[4];
+    int size;
+
+    Bucket(int chunkX, int chunkZ) {
+      this.chunkX = chunkX;
+      this.chunkZ = chunkZ;
+    }
+
+    boolean isWithin(int minChunkX, int maxChunkX, int minChunkZ, int maxChunkZ) {
+      return chunkX >= minChunkX && chunkX <= maxChunkX
+          && chunkZ >= minChunkZ && chunkZ <= maxChunkZ;
+    }
+
+    void add(Entry<T> entry, double x, double y, double z) {
+      if (size == entries.length) {
+        int capacity = 2 * size;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        entries = Arrays.copyOf(entries, capacity);
+      }
+      xs[size] = x;
+      ys[size] = y;
+      zs[size] = z;
+      entries[size] = entry;
+      entry.bucket = this;
+      entry.slot = size++;
+    }
+
+    /** Removes the slot by moving the last slot into its place */
+    void remove(int slot) {
+      int last = --size;
+      Entry<T> moved = entries[last];
+      xs[slot] = xs[last];
+      ys[slot] = ys[last];
+      zs[slot] = zs[last];
+      entries[slot] = moved;
+      moved.slot = slot;
+      entries[last] = null;
+    }
+
+    void forEachWithin(double x, double y, double z, double radiusSquared,
+                       Consumer<? super T> action) {
+      for (int i = 0; i < size; ++i) {
+        double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+        if (dx * dx + dy * dy + dz * dz <= radiusSquared)
+          action.accept(entries[i].value);
+      }
+    }
+
+    void forEachInBox(double minX, double minY, double minZ,
+                      double maxX, double maxY, double maxZ, Consumer<? super T> action) {
+      for (int i = 0; i < size; ++i) {
+        double x = xs[i], y = ys[i], z = zs[i];
+        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ)
+          action.accept(entries[i].value);
+      }
+    }
+
+    void collectNearest(double x, double y, double z, Candidates<T> candidates) {
+      for (int i = 0; i < size; ++i) {
+        double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+        candidates.offer(entries[i].value, dx * dx + dy * dy + dz * dz);
+      }
+    }
+  }
+
+  /** Bounded max-heap of the nearest values found so far, keyed by squared distance */
+  private static final class Candidates<T> {
+    final Object[] values;
+    final double[] distances;
+    int size;
+
+    Candidates(int capacity) {
+      this.values = new Object[capacity];
+      this.distances = new double[capacity];
+    }
+
+    boolean isFull() {
+      return size == values.length;
+    }
+
+    double worstDistance() {
+      return distances[0];
+    }
+
+    void offer(Object value, double distance) {
+      if (size < values.length) {
+        int i = size++;
+        for (int parent; i > 0 && distances[parent = (i - 1) >>> 1] < distance; i = parent) {
+          values[i] = values[parent];
+          distances[i] = distances[parent];
+        }
+        values[i] = value;
+        distances[i] = distance;
+      } else if (distance < distances[0]) {
+        int i = 0;
+        for (int child; (child = 2 * i + 1) < size; i = child) {
+          if (child + 1 < size && distances[child + 1] > distances[child]) ++child;
+          if (distances[child] <= distance) break;
+          values[i] = values[child];
+          distances[i] = distances[child];
+        }
+        values[i] = value;
+        distances[i] = distance;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> toSortedList() {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; ++i) order[i] = i;
+      Arrays.sort(order, Comparator.comparingDouble((i) -> distances[i]));
+      List<T> list = new ArrayList<>(size);
+      for (Integer i : order) list.add((T) values[i]);
+      return list;
+    }
+  }
+
+}
@@ -0,0 +1,199 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned handle of a world, of which exactly one exists per world id. Handles are shared by
+ * all world positions of the same world, so that deriving positions does not allocate a
+ * reference to the world each time.
+ * <p>A handle references its world weakly, so that unloaded worlds can be reclaimed. While
+ * {@link #startTracking(Plugin) tracking} is active, handles are updated through world load and
+ * unload events, thus {@link #isLoaded()} is a field read and a reloaded world is picked up by
+ * existing handles. Otherwise, the load state is looked up through {@link Bukkit} on each call,
+ * as before.
+ * <p>Handles are never evicted from the registry, as there is only a handful of world ids
+ * throughout the lifetime of a server.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 21:20
+ * @see WorldPosition
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class WorldHandle {
+
+  private static final ConcurrentHashMap<UUID, WorldHandle> HANDLES = new ConcurrentHashMap<>();
+
+  private static @Nullable Listener tracker;
+
+  private static volatile boolean tracking;
+
+  private final UUID worldId;
+
+  private volatile @Nullable Reference<World> reference;
+
+  /** Whether the world is loaded, only maintained while tracking */
+  private volatile boolean loaded;
+
+  private WorldHandle(UUID worldId) {
+    this.worldId = worldId;
+  }
+
+  /**
+   * Returns the handle of {@code world}, binding the world to it if it is not yet bound. While
+   * tracking, a world bound this way is marked as loaded if it is the loaded world of its id.
+   */
+  public static WorldHandle of(World world) {
+    Preconditions.checkNotNull(world, "World must not be null");
+    WorldHandle handle = of(world.getUID());
+    Reference<World> reference = handle.reference;
+    if (reference == null || reference.get() == null) {
+      if (tracking && Bukkit.getWorld(handle.worldId) == world)
+        handle.markLoaded(world);
+      else
+        handle.reference = new WeakReference<>(world);
+    }
+    return handle;
+  }
+
+  /** Returns the handle of the world with the given id, whether it is loaded or not */
+  public static WorldHandle of(UUID worldId) {
+    Preconditions.checkNotNull(worldId, "World id must not be null");
+    WorldHandle handle = HANDLES.get(worldId);
+    return (handle != null ? handle : HANDLES.computeIfAbsent(worldId, WorldHandle::new));
+  }
+
+  /**
+   * Starts tracking the load state of all handles through world events, registered on behalf
+   * of {@code plugin}. Does nothing if already tracking. Tracking stops once {@code plugin} is
+   * disabled, as its listeners are unregistered then.
+   */
+  public static synchronized void startTracking(Plugin plugin) {
+    Preconditions.checkNotNull(plugin, "Plugin must not be null");
+    if (tracker != null) return;
+    Listener listener = new Tracker(plugin);
+    Bukkit.getPluginManager().registerEvents(listener, plugin);
+    Set<UUID> loadedIds = new HashSet<>();
+    for (World world : Bukkit.getWorlds()) {
+      loadedIds.add(world.getUID());
+      of(world.getUID()).markLoaded(world);
+    }
+    for (WorldHandle handle : HANDLES.values())
+      if (!loadedIds.contains(handle.worldId))
+        handle.markUnloaded();
+    tracker = listener;
+    tracking = true;
+  }
+
+  /** Stops tracking, after which the load state is looked up through {@link Bukkit} again */
+  public static synchronized void stopTracking() {
+    if (tracker == null) return;
+    HandlerList.unregisterAll(tracker);
+    tracker = null;
+    tracking = false;
+  }
+
+  public static boolean isTracking() {
+    return tracking;
+  }
+
+  public UUID getWorldId() {
+    return worldId;
+  }
+
+  /**
+   * Returns the world of this handle, or null if it is not available. If not tracking and no
+   * world is bound, the world is looked up through {@link Bukkit#getWorld(UUID)}.
+   */
+  public @Nullable World findWorld() {
+    Reference<World> reference = this.reference;
+    @Nullable World world = (reference != null ? reference.get() : null);
+    if (world == null && !tracking) {
+      world = Bukkit.getWorld(worldId);
+      if (world != null)
+        this.reference = new WeakReference<>(world);
+    }
+    return world;
+  }
+
+  /** @throws IllegalStateException if the world is not available */
+  public World getWorld() {
+    @Nullable World world = findWorld();
+    Preconditions.checkState(world != null, "World has become invalid");
+    return world;
+  }
+
+  /** Returns true if the world of this handle is currently loaded */
+  public boolean isLoaded() {
+    if (tracking)
+      return loaded;
+    return findWorld() != null && Bukkit.getWorld(worldId) != null;
+  }
+
+  private void markLoaded(World world) {
+    this.reference = new WeakReference<>(world);
+    this.loaded = true;
+  }
+
+  private void markUnloaded() {
+    this.loaded = false;
+    this.reference = null;
+  }
+
+  @Override
+  public String toString() {
+    return "WorldHandle{" +
+        "worldId=" + worldId +
+        ", loaded=" + isLoaded() +
+        '}';
+  }
+
+  private static final class Tracker implements Listener {
+
+    private final Plugin plugin;
+
+    Tracker(Plugin plugin) {
+      this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+      of(event.getWorld().getUID()).markLoaded(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+      of(event.getWorld().getUID()).markUnloaded();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+      if (event.getPlugin() != plugin) return;
+      synchronized (WorldHandle.class) {
+        if (tracker == this) stopTracking();
+      }
+    }
+
+  }
+
+}
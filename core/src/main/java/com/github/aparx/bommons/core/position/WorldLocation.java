@@ -30,7 +30,8 @@ public class WorldLocation extends WorldPosition implements Rot2F {
     ConfigurationSerialization.registerClass(WorldLocation.class);
   }
 
-  private static final WorldLocation ZERO_LOCATION = new WorldLocation(null, 0, 0, 0, null);
+  private static final WorldLocation ZERO_LOCATION =
+      new WorldLocation((WorldHandle) null, 0, 0, 0, null);
 
   private static final Rotation NO_ROTATION = new Rotation(0, 0);
 
@@ -42,6 +43,12 @@ public class WorldLocation extends WorldPosition implements Rot2F {
     this.rotation = (rotation != null ? rotation : NO_ROTATION);
   }
 
+  protected WorldLocation(@Nullable WorldHandle world,
+                          double posX, double posY, double posZ, @Nullable Rotation rotation) {
+    super(world, posX, posY, posZ);
+    this.rotation = (rotation != null ? rotation : NO_ROTATION);
+  }
+
   public static WorldLocation of() {
     return ZERO_LOCATION;
   }
@@ -111,17 +118,17 @@ public class WorldLocation extends WorldPosition implements Rot2F {
 
   @Override
   public WorldLocation setX(double posX) {
-    return new WorldLocation(findWorld(), posX, this.posY, this.posZ, rotation);
+    return new WorldLocation(getWorldHandle(), posX, this.posY, this.posZ, rotation);
   }
 
   @Override
   public WorldLocation setY(double posY) {
-    return new WorldLocation(findWorld(), this.posX, posY, this.posZ, rotation);
+    return new WorldLocation(getWorldHandle(), this.posX, posY, this.posZ, rotation);
   }
 
   @Override
   public WorldLocation setZ(double posZ) {
-    return new WorldLocation(findWorld(), this.posX, this.posY, posZ, rotation);
+    return new WorldLocation(getWorldHandle(), this.posX, this.posY, posZ, rotation);
   }
 
   public boolean hasRotation() {
@@ -133,7 +140,7 @@ public class WorldLocation extends WorldPosition implements Rot2F {
   }
 
   public WorldLocation setRotation(Rotation rotation) {
-    return new WorldLocation(findWorld(), posX, posY, posZ, rotation);
+    return new WorldLocation(getWorldHandle(), posX, posY, posZ, rotation);
   }
 
   public WorldLocation setYaw(float yaw) {
@@ -164,7 +171,7 @@ public class WorldLocation extends WorldPosition implements Rot2F {
 
   @Override
   public WorldLocation add(double x, double y, double z) {
-    return new WorldLocation(findWorld(), posX + x, posY + y, posZ + z, rotation);
+    return new WorldLocation(getWorldHandle(), posX + x, posY + y, posZ + z, rotation);
   }
 
   @Override
@@ -184,7 +191,7 @@ public class WorldLocation extends WorldPosition implements Rot2F {
 
   @Override
   public WorldLocation subtract(double x, double y, double z) {
-    return new WorldLocation(findWorld(), posX - x, posY - y, posZ - z, rotation);
+    return new WorldLocation(getWorldHandle(), posX - x, posY - y, posZ - z, rotation);
   }
 
   @Override
@@ -204,7 +211,7 @@ public class WorldLocation extends WorldPosition implements Rot2F {
 
   @Override
   public WorldLocation multiply(double x, double y, double z) {
-    return new WorldLocation(findWorld(), posX * x, posY * y, posZ * z, rotation);
+    return new WorldLocation(getWorldHandle(), posX * x, posY * y, posZ * z, rotation);
   }
 
   @Override
@@ -16,8 +16,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -36,13 +34,18 @@ public class WorldPosition extends Position {
     ConfigurationSerialization.registerClass(WorldPosition.class);
   }
 
-  private static final WorldPosition ZERO_POSITION = new WorldPosition(null, 0, 0, 0);
+  private static final WorldPosition ZERO_POSITION =
+      new WorldPosition((WorldHandle) null, 0, 0, 0);
 
-  private final @Nullable Reference<World> world;
+  private final @Nullable WorldHandle world;
 
   protected WorldPosition(@Nullable World world, double posX, double posY, double posZ) {
+    this(world != null ? WorldHandle.of(world) : null, posX, posY, posZ);
+  }
+
+  protected WorldPosition(@Nullable WorldHandle world, double posX, double posY, double posZ) {
     super(posX, posY, posZ);
-    this.world = (world != null ? new WeakReference<>(world) : null);
+    this.world = world;
   }
 
   public static WorldPosition of() {
@@ -84,34 +87,42 @@ public class WorldPosition extends Position {
 
   public World getWorld() {
     Preconditions.checkNotNull(world, "World is not defined");
-    @Nullable World world = this.world.get();
-    Preconditions.checkState(world != null, "World has become invalid");
-    return world;
+    return world.getWorld();
   }
 
+  /** Returns true if the world is defined and loaded, which is a field read while tracking */
   public boolean isWorldLoaded() {
-    if (world == null) return false;
-    @Nullable World world = this.world.get();
-    return world != null && Bukkit.getWorld(world.getUID()) != null;
+    return world != null && world.isLoaded();
   }
 
   public @Nullable World findWorld() {
-    return (world != null ? world.get() : null);
+    return (world != null ? world.findWorld() : null);
+  }
+
+  /** Returns the interned handle of the world, or null if the world is not defined */
+  public @Nullable WorldHandle getWorldHandle() {
+    return world;
   }
 
   @Override
   public WorldPosition setX(double posX) {
-    return new WorldPosition(findWorld(), posX, this.posY, this.posZ);
+    return new WorldPosition(world, posX, this.posY, this.posZ);
   }
 
   @Override
   public WorldPosition setY(double posY) {
-    return new WorldPosition(findWorld(), this.posX, posY, this.posZ);
+    return new WorldPosition(world, this.posX, posY, this.posZ);
   }
 
   @Override
   public WorldPosition setZ(double posZ) {
-    return new WorldPosition(findWorld(), this.posX, this.posY, posZ);
+    return new WorldPosition(world, this.posX, this.posY, posZ);
+  }
+
+  /** Returns a new mutable copy of this position, including its world and rotation if any */
+  @Override
+  public MutableWorldLocation toMutable() {
+    return new MutableWorldLocation(this);
   }
 
   public Block getBlock() {
@@ -133,7 +144,7 @@ public class WorldPosition extends Position {
 
   @Override
   public WorldPosition add(double x, double y, double z) {
-    return new WorldPosition(findWorld(), posX + x, posY + y, posZ + z);
+    return new WorldPosition(world, posX + x, posY + y, posZ + z);
   }
 
   @Override
@@ -153,7 +164,7 @@ public class WorldPosition extends Position {
 
   @Override
   public WorldPosition subtract(double x, double y, double z) {
-    return new WorldPosition(findWorld(), posX - x, posY - y, posZ - z);
+    return new WorldPosition(world, posX - x, posY - y, posZ - z);
   }
 
   @Override
@@ -173,7 +184,7 @@ public class WorldPosition extends Position {
 
   @Override
   public WorldPosition multiply(double x, double y, double z) {
-    return new WorldPosition(findWorld(), posX * x, posY * y, posZ * z);
+    return new WorldPosition(world, posX * x, posY * y, posZ * z);
   }
 
   @Override
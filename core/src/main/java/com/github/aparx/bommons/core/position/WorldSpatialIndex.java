@@ -0,0 +1,142 @@
+package com.github.aparx.bommons.core.position;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of values across worlds, that keeps one chunk-bucketed {@link SpatialIndex}
+ * per world, keyed by the unique id of the world. Queries only consider the values within the
+ * world of their center or box.
+ * <p>This index is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:15
+ * @see SpatialIndex
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public class WorldSpatialIndex<T> {
+
+  private final Map<UUID, SpatialIndex<T>> indices = new HashMap<>();
+
+  /** The world of each value, to locate its index on removal */
+  private final Map<T, UUID> worlds = new HashMap<>();
+
+  @Pure
+  public final @NonNegative int size() {
+    return worlds.size();
+  }
+
+  public boolean isEmpty() {
+    return worlds.isEmpty();
+  }
+
+  public boolean contains(T value) {
+    return worlds.containsKey(value);
+  }
+
+  /** Returns the index of {@code world}, or null if it contains no values */
+  public @Nullable SpatialIndex<T> getIndex(World world) {
+    return indices.get(world.getUID());
+  }
+
+  /**
+   * Inserts {@code value} at {@code position}, or moves it there if already present, which may
+   * also move it to another world.
+   *
+   * @return true if {@code value} has been newly inserted
+   * @throws NullPointerException if the world of {@code position} is not defined
+   */
+  @CanIgnoreReturnValue
+  public boolean insert(T value, WorldPosition position) {
+    Preconditions.checkNotNull(value, "Value must not be null");
+    UUID worldId = worldId(position);
+    UUID previousWorldId = worlds.put(value, worldId);
+    if (previousWorldId != null && !previousWorldId.equals(worldId))
+      removeFrom(previousWorldId, value);
+    indices.computeIfAbsent(worldId, (key) -> new SpatialIndex<>()).insert(value, position);
+    return previousWorldId == null;
+  }
+
+  /**
+   * Moves {@code value} to {@code position}.
+   *
+   * @return false if {@code value} is not in this index
+   */
+  @CanIgnoreReturnValue
+  public boolean move(T value, WorldPosition position) {
+    if (!contains(value)) return false;
+    insert(value, position);
+    return true;
+  }
+
+  @CanIgnoreReturnValue
+  public boolean remove(T value) {
+    UUID worldId = worlds.remove(value);
+    if (worldId == null) return false;
+    removeFrom(worldId, value);
+    return true;
+  }
+
+  /** Removes all values within {@code world}, such as after the world has been unloaded */
+  public void clear(World world) {
+    if (indices.remove(world.getUID()) != null)
+      worlds.values().removeIf(world.getUID()::equals);
+  }
+
+  public void clear() {
+    indices.clear();
+    worlds.clear();
+  }
+
+  /** @see SpatialIndex#forEachWithin(Vec3D, double, Consumer) */
+  public void forEachWithin(WorldPosition center, double radius, Consumer<? super T> action) {
+    SpatialIndex<T> index = indices.get(worldId(center));
+    if (index != null)
+      index.forEachWithin(center, radius, action);
+  }
+
+  /** @see SpatialIndex#findWithin(Vec3D, double) */
+  public List<T> findWithin(WorldPosition center, double radius) {
+    List<T> values = new ArrayList<>();
+    forEachWithin(center, radius, values::add);
+    return values;
+  }
+
+  /** @see SpatialIndex#findInBox(BoundingBox) */
+  public List<T> findInBox(World world, BoundingBox box) {
+    SpatialIndex<T> index = indices.get(world.getUID());
+    return (index != null ? index.findInBox(box) : new ArrayList<>(0));
+  }
+
+  /** @see SpatialIndex#nearest(Vec3D, int) */
+  public List<T> nearest(WorldPosition point, int count) {
+    SpatialIndex<T> index = indices.get(worldId(point));
+    return (index != null ? index.nearest(point, count) : new ArrayList<>(0));
+  }
+
+  private static UUID worldId(WorldPosition position) {
+    WorldHandle handle = position.getWorldHandle();
+    Preconditions.checkNotNull(handle, "World is not defined");
+    return handle.getWorldId();
+  }
+
+  private void removeFrom(UUID worldId, T value) {
+    SpatialIndex<T> index = indices.get(worldId);
+    if (index == null) return;
+    index.remove(value);
+    if (index.isEmpty())
+      indices.remove(worldId);
+  }
+
+}
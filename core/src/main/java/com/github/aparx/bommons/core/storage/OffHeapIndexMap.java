@@ -0,0 +1,356 @@
+package com.github.aparx.bommons.core.storage;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * Index map of fixed-size records, that are stored outside of the garbage collected heap in a
+ * direct or memory-mapped {@link ByteBuffer}.
+ * <p>Records are described by a {@link RecordLayout} and their fields are read and written
+ * individually by index, such as {@code map.getInt(index, health)}. Writing a field of an
+ * unoccupied index occupies it, with all other fields of its record being zero. Reading a
+ * field of an unoccupied index returns zero.
+ * <p>The buffer starts with a header, followed by a bitset of occupied indices and the
+ * records, each of which is laid out in the platform independent little endian byte order.
+ * Thus a map can be written to a file with {@link #writeTo(Path)} and mapped back with
+ * {@link #map(Path, RecordLayout, int)}. Changes to a mapped map are written back to its file
+ * by the operating system, and can be flushed explicitly using {@link #force()}.
+ * <p>The capacity is fixed and limited by the maximum size of a buffer of 2 GiB. This map is
+ * not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 15:10
+ * @see RecordLayout
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class OffHeapIndexMap {
+
+  private static final int MAGIC = 0x4F484D31; // "OHM1"
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int RECORD_SIZE_OFFSET = 8;
+  private static final int FINGERPRINT_OFFSET = 12;
+  private static final int CAPACITY_OFFSET = 16;
+  private static final int SIZE_OFFSET = 20;
+
+  private static final int HEADER_SIZE = 32;
+
+  private static final int BITMAP_OFFSET = HEADER_SIZE;
+
+  private final RecordLayout layout;
+
+  private final ByteBuffer buffer;
+
+  private final int capacity;
+
+  private final int recordSize;
+
+  private final int recordsOffset;
+
+  private int elementCount;
+
+  private OffHeapIndexMap(RecordLayout layout, ByteBuffer buffer, int capacity) {
+    this.layout = layout;
+    this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    this.capacity = capacity;
+    this.recordSize = layout.recordSize();
+    this.recordsOffset = BITMAP_OFFSET + bitmapSize(capacity);
+  }
+
+  /** Allocates a new empty map in a direct buffer, that is able to hold {@code capacity} records */
+  public static OffHeapIndexMap allocate(RecordLayout layout, @NonNegative int capacity) {
+    Preconditions.checkNotNull(layout, "Layout must not be null");
+    ByteBuffer buffer = ByteBuffer.allocateDirect(byteSize(layout, capacity));
+    OffHeapIndexMap map = new OffHeapIndexMap(layout, buffer, capacity);
+    map.writeHeader();
+    return map;
+  }
+
+  /**
+   * Maps {@code file} into memory. If the file is empty or does not exist, it is created with
+   * enough space for {@code capacity} records. Otherwise its header is validated against
+   * {@code layout}, and the capacity stored in the file is used instead.
+   *
+   * @throws StreamCorruptedException if the existing file is not a map of {@code layout}
+   */
+  public static OffHeapIndexMap map(Path file, RecordLayout layout, @NonNegative int capacity)
+      throws IOException {
+    Preconditions.checkNotNull(file, "File must not be null");
+    Preconditions.checkNotNull(layout, "Layout must not be null");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (channel.size() == 0) {
+        MappedByteBuffer buffer =
+            channel.map(FileChannel.MapMode.READ_WRITE, 0, byteSize(layout, capacity));
+        OffHeapIndexMap map = new OffHeapIndexMap(layout, buffer, capacity);
+        map.writeHeader();
+        return map;
+      }
+      if (channel.size() < HEADER_SIZE)
+        throw new StreamCorruptedException("File is too small: " + file);
+      ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      int storedCapacity = validateHeader(header, layout);
+      long byteSize = byteSize(layout, storedCapacity);
+      if (channel.size() < byteSize)
+        throw new StreamCorruptedException("File is truncated: " + file);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, byteSize);
+      OffHeapIndexMap map = new OffHeapIndexMap(layout, buffer, storedCapacity);
+      map.elementCount = map.countOccupied();
+      return map;
+    }
+  }
+
+  public RecordLayout layout() {
+    return layout;
+  }
+
+  public @NonNegative int capacity() {
+    return capacity;
+  }
+
+  public @NonNegative int size() {
+    return elementCount;
+  }
+
+  public boolean isEmpty() {
+    return elementCount == 0;
+  }
+
+  /** Returns true if this map is backed by a memory-mapped file */
+  public boolean isMapped() {
+    return buffer instanceof MappedByteBuffer;
+  }
+
+  public boolean containsKey(int index) {
+    return index >= 0 && index < capacity && (word(index) & (1L << index)) != 0;
+  }
+
+  /**
+   * Occupies {@code index} with a zeroed record, if it is not occupied yet.
+   *
+   * @return true if the index has not been occupied before
+   */
+  @CanIgnoreReturnValue
+  public boolean add(int index) {
+    Preconditions.checkElementIndex(index, capacity);
+    long word = word(index);
+    if ((word & (1L << index)) != 0)
+      return false;
+    setWord(index, word | (1L << index));
+    setSize(elementCount + 1);
+    return true;
+  }
+
+  /**
+   * Removes the record at {@code index} and zeroes its bytes.
+   *
+   * @return true if the index has been occupied
+   */
+  @CanIgnoreReturnValue
+  public boolean remove(int index) {
+    if (!containsKey(index))
+      return false;
+    setWord(index, word(index) & ~(1L << index));
+    fillZero(recordOffset(index), recordSize);
+    setSize(elementCount - 1);
+    return true;
+  }
+
+  public void clear() {
+    fillZero(BITMAP_OFFSET, buffer.capacity() - BITMAP_OFFSET);
+    setSize(0);
+  }
+
+  /** Returns the lowest occupied index greater or equal to {@code index}, or {@code -1} */
+  public int nextIndex(int index) {
+    if (index < 0) index = 0;
+    if (index >= capacity) return -1;
+    int wordIndex = index >>> 6;
+    long word = buffer.getLong(BITMAP_OFFSET + (wordIndex << 3)) & (-1L << index);
+    for (int words = bitmapSize(capacity) >>> 3; word == 0; ) {
+      if (++wordIndex == words) return -1;
+      word = buffer.getLong(BITMAP_OFFSET + (wordIndex << 3));
+    }
+    return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order */
+  public void forEach(@NonNull IntConsumer action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int i = nextIndex(0); i != -1; i = nextIndex(1 + i))
+      action.accept(i);
+  }
+
+  public byte getByte(int index, RecordLayout.Field field) {
+    return buffer.get(fieldOffset(index, field, RecordLayout.FieldType.BYTE));
+  }
+
+  public void setByte(int index, RecordLayout.Field field, byte value) {
+    buffer.put(fieldOffset(index, field, RecordLayout.FieldType.BYTE), value);
+    add(index);
+  }
+
+  public short getShort(int index, RecordLayout.Field field) {
+    return buffer.getShort(fieldOffset(index, field, RecordLayout.FieldType.SHORT));
+  }
+
+  public void setShort(int index, RecordLayout.Field field, short value) {
+    buffer.putShort(fieldOffset(index, field, RecordLayout.FieldType.SHORT), value);
+    add(index);
+  }
+
+  public int getInt(int index, RecordLayout.Field field) {
+    return buffer.getInt(fieldOffset(index, field, RecordLayout.FieldType.INT));
+  }
+
+  public void setInt(int index, RecordLayout.Field field, int value) {
+    buffer.putInt(fieldOffset(index, field, RecordLayout.FieldType.INT), value);
+    add(index);
+  }
+
+  public long getLong(int index, RecordLayout.Field field) {
+    return buffer.getLong(fieldOffset(index, field, RecordLayout.FieldType.LONG));
+  }
+
+  public void setLong(int index, RecordLayout.Field field, long value) {
+    buffer.putLong(fieldOffset(index, field, RecordLayout.FieldType.LONG), value);
+    add(index);
+  }
+
+  public float getFloat(int index, RecordLayout.Field field) {
+    return buffer.getFloat(fieldOffset(index, field, RecordLayout.FieldType.FLOAT));
+  }
+
+  public void setFloat(int index, RecordLayout.Field field, float value) {
+    buffer.putFloat(fieldOffset(index, field, RecordLayout.FieldType.FLOAT), value);
+    add(index);
+  }
+
+  public double getDouble(int index, RecordLayout.Field field) {
+    return buffer.getDouble(fieldOffset(index, field, RecordLayout.FieldType.DOUBLE));
+  }
+
+  public void setDouble(int index, RecordLayout.Field field, double value) {
+    buffer.putDouble(fieldOffset(index, field, RecordLayout.FieldType.DOUBLE), value);
+    add(index);
+  }
+
+  /** Writes all changes of a memory-mapped map to its file, or does nothing otherwise */
+  public void force() {
+    if (buffer instanceof MappedByteBuffer)
+      ((MappedByteBuffer) buffer).force();
+  }
+
+  /**
+   * Writes the full contents of this map to {@code file}, replacing it, so that it can be
+   * mapped with {@link #map(Path, RecordLayout, int)} later on.
+   */
+  public void writeTo(Path file) throws IOException {
+    Preconditions.checkNotNull(file, "File must not be null");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer source = buffer.duplicate();
+      source.clear();
+      while (source.hasRemaining())
+        channel.write(source);
+    }
+  }
+
+  private int fieldOffset(int index, RecordLayout.Field field, RecordLayout.FieldType type) {
+    Preconditions.checkElementIndex(index, capacity);
+    Preconditions.checkArgument(field.getType() == type, "Field %s is not of type %s", field, type);
+    Preconditions.checkArgument(layout.contains(field),
+        "Field %s does not belong to the layout", field);
+    return recordOffset(index) + field.getOffset();
+  }
+
+  private int recordOffset(int index) {
+    return recordsOffset + index * recordSize;
+  }
+
+  private long word(int index) {
+    return buffer.getLong(BITMAP_OFFSET + ((index >>> 6) << 3));
+  }
+
+  private void setWord(int index, long word) {
+    buffer.putLong(BITMAP_OFFSET + ((index >>> 6) << 3), word);
+  }
+
+  private void setSize(int size) {
+    elementCount = size;
+    buffer.putInt(SIZE_OFFSET, size);
+  }
+
+  private int countOccupied() {
+    int count = 0;
+    for (int offset = BITMAP_OFFSET; offset < recordsOffset; offset += Long.BYTES)
+      count += Long.bitCount(buffer.getLong(offset));
+    return count;
+  }
+
+  private void fillZero(int offset, int length) {
+    int end = offset + length;
+    for (; offset + Long.BYTES <= end; offset += Long.BYTES)
+      buffer.putLong(offset, 0L);
+    for (; offset < end; ++offset)
+      buffer.put(offset, (byte) 0);
+  }
+
+  private void writeHeader() {
+    buffer.putInt(MAGIC_OFFSET, MAGIC);
+    buffer.putInt(VERSION_OFFSET, FORMAT_VERSION);
+    buffer.putInt(RECORD_SIZE_OFFSET, recordSize);
+    buffer.putInt(FINGERPRINT_OFFSET, layout.fingerprint());
+    buffer.putInt(CAPACITY_OFFSET, capacity);
+    buffer.putInt(SIZE_OFFSET, elementCount);
+  }
+
+  /** Validates {@code header} against {@code layout} and returns the capacity stored in it */
+  private static int validateHeader(ByteBuffer header, RecordLayout layout)
+      throws StreamCorruptedException {
+    if (header.getInt(MAGIC_OFFSET) != MAGIC)
+      throw new StreamCorruptedException("Not an off-heap index map");
+    int version = header.getInt(VERSION_OFFSET);
+    if (version != FORMAT_VERSION)
+      throw new StreamCorruptedException("Unsupported format version: " + version);
+    if (header.getInt(RECORD_SIZE_OFFSET) != layout.recordSize()
+        || header.getInt(FINGERPRINT_OFFSET) != layout.fingerprint())
+      throw new StreamCorruptedException("Record layout does not match " + layout);
+    int capacity = header.getInt(CAPACITY_OFFSET);
+    if (capacity < 0)
+      throw new StreamCorruptedException("Invalid capacity: " + capacity);
+    return capacity;
+  }
+
+  private static int bitmapSize(int capacity) {
+    return ((capacity + Long.SIZE - 1) >>> 6) << 3;
+  }
+
+  private static int byteSize(RecordLayout layout, int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "Capacity must not be negative");
+    long bitmapSize = (((long) capacity + Long.SIZE - 1) >>> 6) << 3;
+    long byteSize = HEADER_SIZE + bitmapSize + (long) capacity * layout.recordSize();
+    Preconditions.checkArgument(byteSize <= Integer.MAX_VALUE,
+        "Capacity %s exceeds the maximum buffer size", capacity);
+    return (int) byteSize;
+  }
+
+}
@@ -0,0 +1,509 @@
+package com.github.aparx.bommons.core.storage;
+
+import com.github.aparx.bommons.core.IndexMap;
+import com.github.aparx.bommons.core.IntObjConsumer;
+import com.github.aparx.bommons.core.codec.ElementCodec;
+import com.github.aparx.bommons.core.codec.IndexMapCodec;
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.zip.CRC32;
+
+/**
+ * Paged index map, that is persisted in a file and loaded lazily, page by page, on first
+ * access.
+ * <p>The file starts with a header and a page table, which are memory-mapped, followed by the
+ * page data. Each page of consecutive indices is encoded with an {@link IndexMapCodec} and
+ * appended to the end of the file, thus existing page data is never overwritten. The page table
+ * holds two slots per page, each of which references page data along with its CRC32 checksum, a
+ * generation and a checksum of the slot itself. Flushing a page appends its data, forces it to
+ * the disk, and only then writes the page's inactive slot. If the process crashes in between,
+ * the torn or missing slot fails its checksum and the previous slot remains in effect, so that
+ * a page is always either in its old or in its new state.
+ * <p>Opening a map only reads the header and the page table. Modified pages are tracked and
+ * {@link #flush()} only writes and forces those. As superseded page data remains in the file,
+ * {@link #compact()} rewrites the file with only the current pages.
+ * <p>This map is not thread-safe.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 16:05
+ * @see OffHeapIndexMap
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class PersistentIndexMap<E> implements Closeable {
+
+  public static final int DEFAULT_PAGE_SIZE = 256;
+
+  public static final int DEFAULT_MAX_PAGES = 4096;
+
+  private static final int MAGIC = 0x50494D31; // "PIM1"
+
+  private static final int FORMAT_VERSION = 1;
+
+  // header: magic, version, page shift, max pages, reserved, header checksum
+  private static final int HEADER_SIZE = 32;
+  private static final int HEADER_CRC_OFFSET = 28;
+
+  // slot: data offset, data length, entry count, generation, data checksum, slot checksum
+  private static final int SLOT_SIZE = 32;
+  private static final int SLOT_LENGTH_OFFSET = 8;
+  private static final int SLOT_COUNT_OFFSET = 12;
+  private static final int SLOT_GENERATION_OFFSET = 16;
+  private static final int SLOT_DATA_CRC_OFFSET = 24;
+  private static final int SLOT_CRC_OFFSET = 28;
+
+  private static final int SLOTS_PER_PAGE = 2;
+
+  private static final byte NO_SLOT = -1;
+
+  private final Path file;
+
+  private final IndexMapCodec<E> pageCodec;
+
+  private final int pageShift;
+
+  private final int maxPages;
+
+  private final @Nullable IndexMap<@Nullable E>[] pages;
+
+  private final int[] pageCounts;
+
+  /** The slot in effect for each page, or {@code NO_SLOT} if the page has never been written */
+  private final byte[] activeSlots;
+
+  private final BitSet dirtyPages = new BitSet();
+
+  private FileChannel channel;
+
+  private MappedByteBuffer table;
+
+  private long fileEnd;
+
+  private long generation;
+
+  private int elementCount;
+
+  private boolean closed;
+
+  @SuppressWarnings("unchecked")
+  private PersistentIndexMap(Path file, ElementCodec<E> elementCodec, int pageShift,
+                             int maxPages) {
+    this.file = file;
+    this.pageCodec = IndexMapCodec.of(elementCodec);
+    this.pageShift = pageShift;
+    this.maxPages = maxPages;
+    this.pages = new IndexMap[maxPages];
+    this.pageCounts = new int[maxPages];
+    this.activeSlots = new byte[maxPages];
+    Arrays.fill(activeSlots, NO_SLOT);
+  }
+
+  public static <E> PersistentIndexMap<E> open(Path file, ElementCodec<E> elementCodec)
+      throws IOException {
+    return open(file, elementCodec, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+  }
+
+  /**
+   * Opens the map stored in {@code file}, or creates a new file if it is empty or does not
+   * exist. The page size and maximum amount of pages are only used when creating a new file,
+   * otherwise those stored in the file are used.
+   *
+   * @param pageSize the amount of indices per page, which must be a power of two
+   * @param maxPages the amount of pages the page table has room for
+   * @throws StreamCorruptedException if the file is not a persistent index map
+   */
+  public static <E> PersistentIndexMap<E> open(Path file, ElementCodec<E> elementCodec,
+                                               int pageSize, int maxPages) throws IOException {
+    Preconditions.checkNotNull(file, "File must not be null");
+    Preconditions.checkNotNull(elementCodec, "Element codec must not be null");
+    Preconditions.checkArgument(pageSize > 0 && (pageSize & (pageSize - 1)) == 0,
+        "Page size must be a power of two");
+    Preconditions.checkArgument(maxPages > 0, "Max pages must be positive");
+    Preconditions.checkArgument((long) pageSize * maxPages <= Integer.MAX_VALUE,
+        "Page size and max pages exceed the index range");
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      int pageShift = Integer.numberOfTrailingZeros(pageSize);
+      if (channel.size() == 0) {
+        writeHeader(channel, pageShift, maxPages);
+      } else {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC)
+          throw new StreamCorruptedException("Not a persistent index map: " + file);
+        if (header.getInt(4) != FORMAT_VERSION)
+          throw new StreamCorruptedException("Unsupported format version: " + header.getInt(4));
+        if (header.getInt(HEADER_CRC_OFFSET) != checksum(header, 0, HEADER_CRC_OFFSET))
+          throw new StreamCorruptedException("Header checksum mismatch: " + file);
+        pageShift = header.getInt(8);
+        maxPages = header.getInt(12);
+        if (pageShift < 0 || pageShift > 30 || maxPages <= 0
+            || ((long) maxPages << pageShift) > Integer.MAX_VALUE)
+          throw new StreamCorruptedException("Invalid page table: " + file);
+      }
+      PersistentIndexMap<E> map = new PersistentIndexMap<>(file, elementCodec, pageShift, maxPages);
+      map.attach(channel);
+      return map;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public @NonNegative int pageSize() {
+    return 1 << pageShift;
+  }
+
+  /** Returns the amount of indices this map can hold, which is determined by its page table */
+  public @NonNegative int capacity() {
+    return maxPages << pageShift;
+  }
+
+  public @NonNegative int size() {
+    return elementCount;
+  }
+
+  public boolean isEmpty() {
+    return elementCount == 0;
+  }
+
+  /** Returns true if there are modifications that have not been flushed yet */
+  public boolean isDirty() {
+    return !dirtyPages.isEmpty();
+  }
+
+  public @Nullable E get(int index) {
+    Preconditions.checkElementIndex(index, capacity());
+    int pageIndex = index >>> pageShift;
+    if (pageCounts[pageIndex] == 0)
+      return null;
+    return page(pageIndex).get(index & (pageSize() - 1));
+  }
+
+  public boolean containsKey(int index) {
+    if (index < 0 || index >= capacity())
+      return false;
+    int pageIndex = index >>> pageShift;
+    return pageCounts[pageIndex] != 0 && page(pageIndex).containsKey(index & (pageSize() - 1));
+  }
+
+  @CanIgnoreReturnValue
+  public @Nullable E put(int index, @Nullable E value) {
+    Preconditions.checkElementIndex(index, capacity());
+    checkOpen();
+    int pageIndex = index >>> pageShift;
+    int localIndex = index & (pageSize() - 1);
+    IndexMap<@Nullable E> page = page(pageIndex);
+    boolean contained = page.containsKey(localIndex);
+    @Nullable E previousValue = page.put(localIndex, value);
+    if (!contained) {
+      ++pageCounts[pageIndex];
+      ++elementCount;
+    }
+    dirtyPages.set(pageIndex);
+    return previousValue;
+  }
+
+  @CanIgnoreReturnValue
+  public @Nullable E remove(int index) {
+    if (!containsKey(index))
+      return null;
+    checkOpen();
+    int pageIndex = index >>> pageShift;
+    @Nullable E previousValue = page(pageIndex).remove(index & (pageSize() - 1));
+    --pageCounts[pageIndex];
+    --elementCount;
+    dirtyPages.set(pageIndex);
+    return previousValue;
+  }
+
+  /** Calls {@code action} for each occupied index in ascending order, loading all pages */
+  public void forEach(IntObjConsumer<? super @Nullable E> action) {
+    Preconditions.checkNotNull(action, "Action must not be null");
+    for (int pageIndex = 0; pageIndex < maxPages; ++pageIndex) {
+      if (pageCounts[pageIndex] == 0) continue;
+      int base = pageIndex << pageShift;
+      page(pageIndex).forEach((index, value) -> action.accept(base + index, value));
+    }
+  }
+
+  /**
+   * Writes all modified pages to the file. Their data is appended and forced to the disk
+   * first, after which the page table is updated and forced, so that the file is consistent
+   * at any point in time.
+   */
+  public void flush() throws IOException {
+    checkOpen();
+    if (dirtyPages.isEmpty())
+      return;
+    int dirtyCount = dirtyPages.cardinality();
+    long[] offsets = new long[dirtyCount];
+    int[] lengths = new int[dirtyCount];
+    int[] checksums = new int[dirtyCount];
+    for (int p = dirtyPages.nextSetBit(0), n = 0; p >= 0; p = dirtyPages.nextSetBit(1 + p), ++n) {
+      if (pageCounts[p] == 0) continue; // an empty page is written as a slot without data
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      pageCodec.write(page(p), new DataOutputStream(bytes));
+      ByteBuffer data = ByteBuffer.wrap(bytes.toByteArray());
+      offsets[n] = fileEnd;
+      lengths[n] = data.remaining();
+      checksums[n] = checksum(data, 0, data.remaining());
+      fileEnd += writeFully(channel, data, fileEnd);
+    }
+    channel.force(false);
+    for (int p = dirtyPages.nextSetBit(0), n = 0; p >= 0; p = dirtyPages.nextSetBit(1 + p), ++n) {
+      byte slot = (byte) (activeSlots[p] == 0 ? 1 : 0);
+      writeSlot(p, slot, offsets[n], lengths[n], pageCounts[p], ++generation, checksums[n]);
+      activeSlots[p] = slot;
+    }
+    table.force();
+    dirtyPages.clear();
+  }
+
+  /**
+   * Flushes this map and rewrites its file, so that it only contains the current data of each
+   * page. The rewritten file atomically replaces the previous one. If replacing fails, this
+   * map continues on the previous file, unless reopening it fails as well, which closes it.
+   */
+  public void compact() throws IOException {
+    flush();
+    Path target = file.resolveSibling(file.getFileName() + ".compact");
+    try (FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeHeader(targetChannel, pageShift, maxPages);
+      MappedByteBuffer targetTable = mapTable(targetChannel);
+      long targetEnd = tableEnd();
+      for (int p = 0; p < maxPages; ++p) {
+        byte slot = activeSlots[p];
+        if (slot == NO_SLOT || pageCounts[p] == 0) continue;
+        int slotOffset = slotOffset(p, slot);
+        int length = table.getInt(slotOffset + SLOT_LENGTH_OFFSET);
+        ByteBuffer data = ByteBuffer.allocate(length);
+        readFully(channel, data, table.getLong(slotOffset));
+        data.flip();
+        long offset = targetEnd;
+        targetEnd += writeFully(targetChannel, data, targetEnd);
+        writeSlot(targetTable, slotOffset(p, (byte) 0), offset, length, pageCounts[p], 1,
+            table.getInt(slotOffset + SLOT_DATA_CRC_OFFSET));
+      }
+      targetChannel.force(false);
+      targetTable.force();
+    }
+    channel.close();
+    try {
+      Files.move(target, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      // the original file is untouched, thus continue on it and discard the rewritten file
+      try {
+        Files.deleteIfExists(target);
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      try {
+        attach(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+      } catch (IOException | RuntimeException suppressed) {
+        closed = true;
+        e.addSuppressed(suppressed);
+      }
+      throw e;
+    }
+    Arrays.fill(activeSlots, NO_SLOT);
+    elementCount = 0;
+    attach(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+  }
+
+  /** Flushes and closes this map. The map must not be used afterwards */
+  @Override
+  public void close() throws IOException {
+    if (closed)
+      return;
+    try {
+      flush();
+    } finally {
+      closed = true;
+      channel.close();
+    }
+  }
+
+  private void checkOpen() {
+    Preconditions.checkState(!closed, "Map is closed");
+  }
+
+  /** Maps the page table of {@code channel} and reads the active slot of each page */
+  private void attach(FileChannel channel) throws IOException {
+    this.channel = channel;
+    this.table = mapTable(channel);
+    this.fileEnd = Math.max(channel.size(), tableEnd());
+    this.generation = 0;
+    int count = 0;
+    for (int p = 0; p < maxPages; ++p) {
+      byte activeSlot = NO_SLOT;
+      long activeGeneration = 0;
+      for (byte slot = 0; slot < SLOTS_PER_PAGE; ++slot) {
+        int offset = slotOffset(p, slot);
+        long slotGeneration = table.getLong(offset + SLOT_GENERATION_OFFSET);
+        if (slotGeneration > activeGeneration && isValidSlot(offset)) {
+          activeSlot = slot;
+          activeGeneration = slotGeneration;
+        }
+      }
+      activeSlots[p] = activeSlot;
+      generation = Math.max(generation, activeGeneration);
+      if (pages[p] == null)
+        pageCounts[p] = (activeSlot != NO_SLOT
+            ? table.getInt(slotOffset(p, activeSlot) + SLOT_COUNT_OFFSET) : 0);
+      count += pageCounts[p];
+    }
+    this.elementCount = count;
+  }
+
+  private boolean isValidSlot(int offset) {
+    if (table.getInt(offset + SLOT_CRC_OFFSET) != checksum(table, offset, SLOT_CRC_OFFSET))
+      return false;
+    long dataOffset = table.getLong(offset);
+    int length = table.getInt(offset + SLOT_LENGTH_OFFSET);
+    return length >= 0 && table.getInt(offset + SLOT_COUNT_OFFSET) >= 0
+        && (length == 0 || (dataOffset >= tableEnd() && dataOffset + length <= fileEnd));
+  }
+
+  /** Returns the page at {@code pageIndex}, loading and verifying it if not loaded yet */
+  private IndexMap<@Nullable E> page(int pageIndex) {
+    IndexMap<@Nullable E> page = pages[pageIndex];
+    if (page != null)
+      return page;
+    try {
+      page = readPage(pageIndex);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    elementCount += page.size() - pageCounts[pageIndex];
+    pageCounts[pageIndex] = page.size();
+    return pages[pageIndex] = page;
+  }
+
+  private IndexMap<@Nullable E> readPage(int pageIndex) throws IOException {
+    byte slot = activeSlots[pageIndex];
+    if (slot == NO_SLOT)
+      return newPage();
+    IndexMap<@Nullable E> page = readSlot(slotOffset(pageIndex, slot));
+    if (page == null) {
+      // fall back to the previous state, if it is still intact
+      int otherOffset = slotOffset(pageIndex, (byte) (1 - slot));
+      if (table.getLong(otherOffset + SLOT_GENERATION_OFFSET) > 0 && isValidSlot(otherOffset))
+        page = readSlot(otherOffset);
+    }
+    if (page == null)
+      throw new StreamCorruptedException("Page " + pageIndex + " is corrupt: " + file);
+    return page;
+  }
+
+  /** Returns the page referenced by the slot at {@code offset}, or null if it is corrupt */
+  private @Nullable IndexMap<@Nullable E> readSlot(int offset) throws IOException {
+    int length = table.getInt(offset + SLOT_LENGTH_OFFSET);
+    if (length == 0)
+      return newPage();
+    ByteBuffer data = ByteBuffer.allocate(length);
+    readFully(channel, data, table.getLong(offset));
+    if (checksum(data, 0, length) != table.getInt(offset + SLOT_DATA_CRC_OFFSET))
+      return null;
+    IndexMap<@Nullable E> page = newPage();
+    pageCodec.readInto(new DataInputStream(new ByteArrayInputStream(data.array())), page);
+    return page;
+  }
+
+  private IndexMap<@Nullable E> newPage() {
+    return new IndexMap<>(pageSize(), IndexMap.ShrinkPolicy.NEVER);
+  }
+
+  private void writeSlot(int pageIndex, byte slot, long offset, int length, int count,
+                         long generation, int dataChecksum) {
+    writeSlot(table, slotOffset(pageIndex, slot), offset, length, count, generation,
+        dataChecksum);
+  }
+
+  private static void writeSlot(ByteBuffer table, int slotOffset, long offset, int length,
+                                int count, long generation, int dataChecksum) {
+    table.putLong(slotOffset, (length != 0 ? offset : 0));
+    table.putInt(slotOffset + SLOT_LENGTH_OFFSET, length);
+    table.putInt(slotOffset + SLOT_COUNT_OFFSET, count);
+    table.putLong(slotOffset + SLOT_GENERATION_OFFSET, generation);
+    table.putInt(slotOffset + SLOT_DATA_CRC_OFFSET, dataChecksum);
+    table.putInt(slotOffset + SLOT_CRC_OFFSET, checksum(table, slotOffset, SLOT_CRC_OFFSET));
+  }
+
+  private int slotOffset(int pageIndex, byte slot) {
+    return HEADER_SIZE + (pageIndex * SLOTS_PER_PAGE + slot) * SLOT_SIZE;
+  }
+
+  private long tableEnd() {
+    return HEADER_SIZE + (long) maxPages * SLOTS_PER_PAGE * SLOT_SIZE;
+  }
+
+  private MappedByteBuffer mapTable(FileChannel channel) throws IOException {
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, tableEnd());
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    return buffer;
+  }
+
+  private static void writeHeader(FileChannel channel, int pageShift, int maxPages)
+      throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(0, MAGIC);
+    header.putInt(4, FORMAT_VERSION);
+    header.putInt(8, pageShift);
+    header.putInt(12, maxPages);
+    header.putInt(HEADER_CRC_OFFSET, checksum(header, 0, HEADER_CRC_OFFSET));
+    writeFully(channel, header, 0);
+    channel.force(false);
+  }
+
+  private static int checksum(ByteBuffer buffer, int offset, int length) {
+    ByteBuffer range = buffer.duplicate();
+    range.limit(offset + length).position(offset);
+    CRC32 crc = new CRC32();
+    crc.update(range);
+    return (int) crc.getValue();
+  }
+
+  private static int writeFully(FileChannel channel, ByteBuffer data, long position)
+      throws IOException {
+    int length = data.remaining();
+    for (long p = position; data.hasRemaining(); )
+      p += channel.write(data, p);
+    return length;
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer data, long position)
+      throws IOException {
+    for (long p = position; data.hasRemaining(); ) {
+      int read = channel.read(data, p);
+      if (read < 0)
+        throw new EOFException("Unexpected end of file at " + p);
+      p += read;
+    }
+  }
+
+}
@@ -0,0 +1,193 @@
+package com.github.aparx.bommons.core.storage;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable descriptor of a fixed-size record, composed of named and typed fields.
+ * <p>Each field is aligned to its own size, and the record size is padded to the largest
+ * field alignment, so that every field of every record in a contiguous array of records is
+ * naturally aligned.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 15:10
+ * @see OffHeapIndexMap
+ * @since 1.0
+ */
+@DefaultQualifier(NonNull.class)
+public final class RecordLayout {
+
+  private final ImmutableMap<String, Field> fields;
+
+  private final @NonNegative int recordSize;
+
+  private RecordLayout(ImmutableMap<String, Field> fields, @NonNegative int recordSize) {
+    this.fields = fields;
+    this.recordSize = recordSize;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public @NonNegative int recordSize() {
+    return recordSize;
+  }
+
+  public Collection<Field> fields() {
+    return fields.values();
+  }
+
+  public @Nullable Field findField(String name) {
+    return fields.get(name);
+  }
+
+  public Field field(String name) {
+    Field field = fields.get(name);
+    Preconditions.checkArgument(field != null, "Unknown field: %s", name);
+    return field;
+  }
+
+  /** Returns true if {@code field} has been created by this layout */
+  public boolean contains(Field field) {
+    return fields.get(field.name) == field;
+  }
+
+  /**
+   * Returns a fingerprint of the names, types and offsets of all fields, which is persisted
+   * by storages to recognize incompatible layouts.
+   */
+  public int fingerprint() {
+    int hash = recordSize;
+    for (Field field : fields.values())
+      hash = 31 * (31 * (31 * hash + field.name.hashCode()) + field.type.ordinal()) + field.offset;
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "RecordLayout{fields=" + fields.values() + ", recordSize=" + recordSize + '}';
+  }
+
+  public enum FieldType {
+    BYTE(Byte.BYTES),
+    SHORT(Short.BYTES),
+    INT(Integer.BYTES),
+    LONG(Long.BYTES),
+    FLOAT(Float.BYTES),
+    DOUBLE(Double.BYTES);
+
+    private final int size;
+
+    FieldType(int size) {
+      this.size = size;
+    }
+
+    public int size() {
+      return size;
+    }
+  }
+
+  public static final class Field {
+
+    private final String name;
+    private final FieldType type;
+    private final @NonNegative int offset;
+
+    private Field(String name, FieldType type, @NonNegative int offset) {
+      this.name = name;
+      this.type = type;
+      this.offset = offset;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public FieldType getType() {
+      return type;
+    }
+
+    /** Returns the byte offset of this field relative to the start of a record */
+    public @NonNegative int getOffset() {
+      return offset;
+    }
+
+    @Override
+    public String toString() {
+      return name + ':' + type + '@' + offset;
+    }
+  }
+
+  public static final class Builder {
+
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+
+    private int size;
+
+    private int alignment = 1;
+
+    private Builder() {}
+
+    @CanIgnoreReturnValue
+    public Builder add(String name, FieldType type) {
+      Preconditions.checkNotNull(name, "Name must not be null");
+      Preconditions.checkNotNull(type, "Type must not be null");
+      Preconditions.checkArgument(!fields.containsKey(name), "Duplicate field: %s", name);
+      int offset = align(size, type.size);
+      fields.put(name, new Field(name, type, offset));
+      size = offset + type.size;
+      alignment = Math.max(alignment, type.size);
+      return this;
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addByte(String name) {
+      return add(name, FieldType.BYTE);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addShort(String name) {
+      return add(name, FieldType.SHORT);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addInt(String name) {
+      return add(name, FieldType.INT);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addLong(String name) {
+      return add(name, FieldType.LONG);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addFloat(String name) {
+      return add(name, FieldType.FLOAT);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder addDouble(String name) {
+      return add(name, FieldType.DOUBLE);
+    }
+
+    public RecordLayout build() {
+      Preconditions.checkState(!fields.isEmpty(), "Layout must have at least one field");
+      return new RecordLayout(ImmutableMap.copyOf(fields), align(size, alignment));
+    }
+
+    private static int align(int offset, int alignment) {
+      return (offset + alignment - 1) & -alignment;
+    }
+  }
+
+}
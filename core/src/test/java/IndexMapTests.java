@@ -1,8 +1,11 @@
 import com.github.aparx.bommons.core.IndexMap;
+import com.google.common.base.Equivalence;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 /**
  * @author aparx (Vinzent Z.)
@@ -62,6 +65,20 @@ public class IndexMapTests {
     Assert.assertEquals("there", map.get(3));
   }
 
+  @Test
+  public void putAllIntoItself() {
+    IndexMap<String> map = new IndexMap<>();
+    map.put(0, "a");
+    map.put(64, "b");
+    map.putAll(map, 64);
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("a", map.get(0));
+    Assert.assertEquals("a", map.get(64));
+    Assert.assertEquals("b", map.get(128));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> map.putAll(map, Integer.MAX_VALUE - 128));
+  }
+
   @Test
   public void contains() {
     IndexMap<String> map = new IndexMap<>();
@@ -148,5 +165,167 @@ public class IndexMapTests {
     Assert.assertEquals(-1, map.lastIndexOf("d"));
   }
 
+  @Test
+  public void remove() {
+    IndexMap<String> map = new IndexMap<>();
+    map.put(0, "a");
+    map.put(7, "b");
+    Assert.assertNull(map.remove(3));
+    Assert.assertNull(map.remove(500));
+    Assert.assertEquals(2, map.size());
+    Assert.assertFalse(map.remove(7, "a"));
+    Assert.assertTrue(map.remove(7, "b"));
+    Assert.assertEquals(1, map.size());
+    Assert.assertFalse(map.containsKey(7));
+  }
+
+  @Test
+  public void navigation() {
+    IndexMap<String> map = new IndexMap<>(200);
+    Assert.assertEquals(-1, map.firstIndex());
+    Assert.assertEquals(-1, map.lastIndex());
+    map.put(3, "a");
+    map.put(64, "b");
+    map.put(150, "c");
+    Assert.assertEquals(3, map.firstIndex());
+    Assert.assertEquals(150, map.lastIndex());
+    Assert.assertEquals(3, map.nextIndex(-1));
+    Assert.assertEquals(64, map.nextIndex(3));
+    Assert.assertEquals(150, map.nextIndex(64));
+    Assert.assertEquals(-1, map.nextIndex(150));
+    Assert.assertEquals(64, map.previousIndex(150));
+    Assert.assertEquals(3, map.previousIndex(64));
+    Assert.assertEquals(-1, map.previousIndex(3));
+    Assert.assertEquals(150, map.previousIndex(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void iteration() {
+    IndexMap<String> map = new IndexMap<>(1000);
+    map.put(999, "c");
+    map.put(1, "a");
+    map.put(500, "b");
+    StringBuilder builder = new StringBuilder();
+    for (IndexMap.Entry<String> entry : map)
+      builder.append(entry.getIndex()).append(entry.getValue());
+    Assert.assertEquals("1a500b999c", builder.toString());
+    builder.setLength(0);
+    map.forEach((index, value) -> builder.append(index).append(value));
+    Assert.assertEquals("1a500b999c", builder.toString());
+    Assert.assertEquals(Map.of(1, "a", 500, "b", 999, "c"), map.toMap());
+    IndexMap<String> copy = new IndexMap<>(map);
+    Assert.assertEquals(map.toMap(), copy.toMap());
+  }
+
+  @Test
+  public void shrink() {
+    IndexMap<String> map = new IndexMap<>();
+    map.put(1, "a");
+    map.put(1000, "b");
+    Assert.assertTrue(map.capacity() > 1000);
+    map.remove(1000);
+    Assert.assertEquals(IndexMap.DEFAULT_INITIAL_CAPACITY, map.capacity());
+    Assert.assertEquals("a", map.get(1));
+    Assert.assertNull(map.get(1000));
+
+    // hysteresis: put and remove just above the highest index must not resize
+    map.put(100, "c");
+    int capacity = map.capacity();
+    map.put(101, "d");
+    map.remove(101);
+    map.put(101, "d");
+    Assert.assertEquals(capacity, map.capacity());
+
+    map.setShrinkPolicy(IndexMap.ShrinkPolicy.NEVER);
+    map.remove(100);
+    map.remove(101);
+    Assert.assertEquals(capacity, map.capacity());
+    map.trimToSize();
+    Assert.assertEquals(2, map.capacity());
+    Assert.assertEquals("a", map.get(1));
+  }
+
+  @Test
+  public void diff() {
+    IndexMap<String> previous = new IndexMap<>();
+    previous.put(0, "a");
+    previous.put(1, "b");
+    previous.put(2, new String("c"));
+    previous.put(100, "d");
+    IndexMap<String> current = new IndexMap<>();
+    current.put(1, "x");
+    current.put(2, "c");
+    current.put(200, "e");
+    StringBuilder builder = new StringBuilder();
+    IndexMap.DiffConsumer<String> consumer = new IndexMap.DiffConsumer<>() {
+      @Override
+      public void added(int index, String value) {
+        builder.append('+').append(index).append(value);
+      }
+
+      @Override
+      public void removed(int index, String oldValue) {
+        builder.append('-').append(index).append(oldValue);
+      }
+
+      @Override
+      public void changed(int index, String oldValue, String newValue) {
+        builder.append('~').append(index).append(oldValue).append(newValue);
+      }
+    };
+    previous.diff(current, consumer);
+    Assert.assertEquals("-0a~1bx-100d+200e", builder.toString());
+    builder.setLength(0);
+    previous.diff(current, consumer, Equivalence.identity());
+    Assert.assertEquals("-0a~1bx~2cc-100d+200e", builder.toString());
+  }
+
+  @Test
+  public void dirtyTracking() {
+    IndexMap<String> map = new IndexMap<>();
+    map.put(0, "a");
+    Assert.assertFalse(map.isDirty(0));
+    map.setDirtyTracking(true);
+    map.put(1, "b");
+    map.put(500, "c");
+    map.remove(500);
+    Assert.assertTrue(map.isDirty(1));
+    Assert.assertFalse(map.isDirty(0));
+    StringBuilder builder = new StringBuilder();
+    Assert.assertEquals(2, map.drainDirty((index) -> builder.append(index).append(',')));
+    Assert.assertEquals("1,500,", builder.toString());
+    Assert.assertEquals(0, map.drainDirty((index) -> Assert.fail()));
+    map.clear();
+    builder.setLength(0);
+    map.drainDirty((index) -> builder.append(index).append(','));
+    Assert.assertEquals("0,1,", builder.toString());
+    map.setDirtyTracking(false);
+    map.put(2, "d");
+    Assert.assertFalse(map.isDirty(2));
+  }
+
+  @Test
+  public void streams() {
+    IndexMap<Integer> map = new IndexMap<>();
+    long expectedSum = 0;
+    for (int i = 0; i < 10_000; i += 3) {
+      map.put(i, i);
+      expectedSum += i;
+    }
+    Assert.assertEquals(expectedSum,
+        map.parallelStream().mapToLong(IndexMap.Entry::getValue).sum());
+    Assert.assertEquals(map.size(), map.stream().count());
+    Assert.assertEquals(expectedSum, map.indices().asLongStream().sum());
+    Assert.assertEquals(map.toMap(), map.parallelStream().collect(
+        Collectors.toMap(IndexMap.Entry::getIndex, IndexMap.Entry::getValue)));
+
+    Spliterator<IndexMap.Entry<Integer>> spliterator = map.spliterator();
+    Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    Spliterator<IndexMap.Entry<Integer>> prefix = spliterator.trySplit();
+    Assert.assertNotNull(prefix);
+    Assert.assertEquals(map.size(), prefix.getExactSizeIfKnown()
+        + spliterator.getExactSizeIfKnown());
+    Assert.assertTrue(prefix.tryAdvance(entry -> Assert.assertEquals(0, entry.getIndex())));
+  }
 
-}
\ No newline at end of file
+}
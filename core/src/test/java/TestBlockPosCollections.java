@@ -0,0 +1,98 @@
+import com.github.aparx.bommons.core.position.BlockPosMap;
+import com.github.aparx.bommons.core.position.BlockPosSet;
+import com.github.aparx.bommons.core.position.MutablePosition;
+import com.github.aparx.bommons.core.position.Position;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:50
+ * @since 1.0
+ */
+public class TestBlockPosCollections {
+
+  @Test
+  public void packAndUnpack() {
+    int[][] blocks = {{0, 0, 0}, {-1, -1, -1}, {33554431, 2047, -33554432},
+        {-33554432, -2048, 33554431}, {12, -64, -7}};
+    for (int[] block : blocks) {
+      long packed = Position.packBlock(block[0], block[1], block[2]);
+      Assert.assertEquals(block[0], Position.unpackBlockX(packed));
+      Assert.assertEquals(block[1], Position.unpackBlockY(packed));
+      Assert.assertEquals(block[2], Position.unpackBlockZ(packed));
+    }
+    Position position = Position.of(-0.5, 70.9, 15.2);
+    Assert.assertEquals(Position.packBlock(-1, 70, 15), position.getPackedBlock());
+    Position corner = Position.ofPackedBlock(position.getPackedBlock());
+    Assert.assertEquals(-1, corner.getX(), 0.0);
+    MutablePosition mutable = new MutablePosition().setPackedBlock(position.getPackedBlock());
+    Assert.assertEquals(70, mutable.getY(), 0.0);
+    Assert.assertEquals(position.getPackedBlock(), mutable.getPackedBlock());
+  }
+
+  @Test
+  public void setMatchesHashSet() {
+    Random random = new Random(3);
+    BlockPosSet set = new BlockPosSet();
+    Set<Long> expected = new HashSet<>();
+    for (int i = 0; i < 20000; ++i) {
+      long packed = Position.packBlock(random.nextInt(40) - 20, random.nextInt(8),
+          random.nextInt(40) - 20);
+      if (random.nextInt(3) == 0)
+        Assert.assertEquals(expected.remove(packed), set.remove(packed));
+      else
+        Assert.assertEquals(expected.add(packed), set.add(packed));
+      Assert.assertEquals(expected.size(), set.size());
+    }
+    for (long packed : expected)
+      Assert.assertTrue(set.contains(packed));
+    Set<Long> iterated = new HashSet<>();
+    set.iterator().forEachRemaining((long packed) -> Assert.assertTrue(iterated.add(packed)));
+    Assert.assertEquals(expected, iterated);
+    Assert.assertEquals(expected.size(), set.toArray().length);
+    BlockPosSet clone = set.clone();
+    Assert.assertEquals(set, clone);
+    Assert.assertEquals(set.hashCode(), clone.hashCode());
+    clone.add(0, 0, 0);
+    clone.remove(0, 0, 0);
+    clone.add(5, 5, 5);
+    Assert.assertNotEquals(set, clone);
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.contains(0, 0, 0));
+  }
+
+  @Test
+  public void mapMatchesHashMap() {
+    Random random = new Random(5);
+    BlockPosMap<Integer> map = new BlockPosMap<>(16);
+    Map<Long, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 20000; ++i) {
+      long packed = Position.packBlock(random.nextInt(30) - 15, random.nextInt(4) - 2,
+          random.nextInt(30) - 15);
+      int operation = random.nextInt(4);
+      if (operation == 0)
+        Assert.assertEquals(expected.remove(packed), map.remove(packed));
+      else if (operation == 1)
+        Assert.assertEquals(expected.computeIfAbsent(packed, (key) -> 7),
+            map.computeIfAbsent(packed, (key) -> 7));
+      else
+        Assert.assertEquals(expected.put(packed, i), map.put(packed, i));
+      Assert.assertEquals(expected.size(), map.size());
+    }
+    expected.forEach((packed, value) -> Assert.assertEquals(value, map.get(packed)));
+    Map<Long, Integer> iterated = new HashMap<>();
+    map.forEach(iterated::put);
+    Assert.assertEquals(expected, iterated);
+    Assert.assertEquals(expected.size(), map.keySet().size());
+    Assert.assertEquals(Integer.valueOf(-1), map.getOrDefault(Position.packBlock(99, 0, 0), -1));
+    BlockPosMap<Integer> clone = map.clone();
+    map.clear();
+    Assert.assertEquals(expected.size(), clone.size());
+    Assert.assertNull(map.get(0, 0, 0));
+  }
+
+}
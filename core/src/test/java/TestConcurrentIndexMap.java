@@ -0,0 +1,99 @@
+import com.github.aparx.bommons.core.ConcurrentIndexMap;
+import com.github.aparx.bommons.core.IndexMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 13:05
+ * @since 1.0
+ */
+public class TestConcurrentIndexMap {
+
+  @Test
+  public void putAndRemove() {
+    ConcurrentIndexMap<String> map = new ConcurrentIndexMap<>(2);
+    Assert.assertNull(map.put(0, "a"));
+    Assert.assertNull(map.put(100, "b"));
+    Assert.assertEquals("a", map.put(0, "c"));
+    Assert.assertEquals("c", map.putIfAbsent(0, "d"));
+    Assert.assertNull(map.putIfAbsent(1, "d"));
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("b", map.get(100));
+    Assert.assertNull(map.get(1000));
+    Assert.assertFalse(map.remove(1, "x"));
+    Assert.assertTrue(map.remove(1, "d"));
+    Assert.assertEquals("b", map.remove(100));
+    Assert.assertNull(map.remove(100));
+    Assert.assertEquals(1, map.size());
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void compute() {
+    ConcurrentIndexMap<Integer> map = new ConcurrentIndexMap<>();
+    Assert.assertEquals(Integer.valueOf(1), map.compute(5, (i, v) -> v == null ? 1 : v + 1));
+    Assert.assertEquals(Integer.valueOf(2), map.compute(5, (i, v) -> v == null ? 1 : v + 1));
+    Assert.assertNull(map.compute(5, (i, v) -> null));
+    Assert.assertFalse(map.containsKey(5));
+    Assert.assertEquals(Integer.valueOf(7), map.computeIfAbsent(7, (i) -> i));
+    Assert.assertEquals(Integer.valueOf(7), map.computeIfAbsent(7, (i) -> 0));
+    Assert.assertEquals(1, map.size());
+  }
+
+  @Test
+  public void iteration() {
+    ConcurrentIndexMap<String> map = new ConcurrentIndexMap<>();
+    map.put(3, "a");
+    map.put(20, "c");
+    map.put(30, "b");
+    Iterator<IndexMap.Entry<String>> iterator = map.iterator();
+    Assert.assertEquals(3, iterator.next().getIndex());
+    map.put(50, "d");
+    Assert.assertEquals(20, iterator.next().getIndex());
+    iterator.remove();
+    Assert.assertEquals("b", iterator.next().getValue());
+    Assert.assertEquals("d", iterator.next().getValue());
+    Assert.assertFalse(iterator.hasNext());
+    Assert.assertFalse(map.containsKey(20));
+  }
+
+  @Test
+  public void concurrentUpdates() throws InterruptedException {
+    ConcurrentIndexMap<Integer> map = new ConcurrentIndexMap<>(1);
+    int threadCount = 4, perThread = 5_000;
+    CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[threadCount];
+    AtomicInteger failures = new AtomicInteger();
+    for (int t = 0; t < threadCount; ++t) {
+      int offset = t;
+      threads[t] = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        for (int i = 0; i < perThread; ++i) {
+          int index = i * threadCount + offset;
+          map.put(index, index);
+          map.compute(0, (k, v) -> v == null ? 1 : v + 1);
+          if (!Integer.valueOf(index).equals(map.get(index)) && index != 0)
+            failures.incrementAndGet();
+        }
+      });
+      threads[t].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) thread.join();
+    Assert.assertEquals(0, failures.get());
+    Assert.assertEquals(threadCount * perThread, map.size());
+    for (int i = 1; i < threadCount * perThread; ++i)
+      Assert.assertEquals(Integer.valueOf(i), map.get(i));
+  }
+
+}
@@ -0,0 +1,65 @@
+import com.github.aparx.bommons.core.ConcurrentWeakHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 17:40
+ * @since 1.0
+ */
+public class TestConcurrentWeakHashSet {
+
+  @Test
+  public void basics() {
+    ConcurrentWeakHashSet<String> set = new ConcurrentWeakHashSet<>();
+    String element = new String("a");
+    Assert.assertTrue(set.add(element));
+    Assert.assertFalse(set.add("a"));
+    Assert.assertTrue(set.contains("a"));
+    Assert.assertFalse(set.contains(null));
+    Assert.assertEquals(1, set.size());
+    Iterator<String> iterator = set.iterator();
+    Assert.assertSame(element, iterator.next());
+    iterator.remove();
+    Assert.assertFalse(iterator.hasNext());
+    Assert.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void concurrentAdds() throws InterruptedException {
+    ConcurrentWeakHashSet<Integer> set = new ConcurrentWeakHashSet<>();
+    Integer[] elements = new Integer[4000];
+    for (int i = 0; i < elements.length; ++i) elements[i] = i;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; ++t) {
+      int offset = t;
+      executor.execute(() -> {
+        for (int i = offset; i < elements.length; i += 4) set.add(elements[i]);
+      });
+    }
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    Assert.assertEquals(elements.length, set.size());
+  }
+
+  @Test
+  public void expunge() throws InterruptedException {
+    ConcurrentWeakHashSet<Object> set = new ConcurrentWeakHashSet<>();
+    Object retained = new Object();
+    set.add(retained);
+    for (int i = 0; i < 100; ++i)
+      set.add(new Object());
+    for (int i = 0; i < 50 && set.size() > 1; ++i) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(1, set.size());
+    Assert.assertTrue(set.contains(retained));
+  }
+
+}
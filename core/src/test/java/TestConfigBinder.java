@@ -0,0 +1,96 @@
+import com.github.aparx.bommons.core.binding.ConfigBinder;
+import com.github.aparx.bommons.core.binding.ConfigBindingException;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 18:40
+ * @since 1.0
+ */
+public class TestConfigBinder {
+
+  enum Rarity {
+    COMMON, RARE, VERY_RARE
+  }
+
+  static class Item {
+    String name = "unnamed";
+    int amount = 1;
+    Rarity rarity = Rarity.COMMON;
+  }
+
+  static class Shop {
+    String title;
+    double taxRate;
+    boolean open;
+    List<Item> items;
+    Map<Rarity, Integer> limits;
+    Set<String> tags;
+    int[] hours;
+    Shop parent;
+    transient String cache = "kept";
+  }
+
+  @Test
+  public void bindSection() {
+    MemoryConfiguration config = new MemoryConfiguration();
+    config.set("title", "General Store");
+    config.set("taxRate", "0.25");
+    config.set("open", true);
+    config.set("items", List.of(
+        Map.of("name", "Sword", "rarity", "very rare"),
+        Map.of("amount", 16)));
+    config.set("limits", Map.of("rare", 2, "common", "64"));
+    config.set("tags", List.of("a", "b", "a"));
+    config.set("hours", List.of(8, 20));
+    config.set("parent", Map.of("title", "Headquarters"));
+    config.set("cache", "overwritten");
+
+    Shop shop = ConfigBinder.bind(config, Shop.class);
+    Assert.assertEquals("General Store", shop.title);
+    Assert.assertEquals(0.25, shop.taxRate, 0.0);
+    Assert.assertTrue(shop.open);
+    Assert.assertEquals(2, shop.items.size());
+    Assert.assertEquals("Sword", shop.items.get(0).name);
+    Assert.assertEquals(1, shop.items.get(0).amount);
+    Assert.assertEquals(Rarity.VERY_RARE, shop.items.get(0).rarity);
+    Assert.assertEquals("unnamed", shop.items.get(1).name);
+    Assert.assertEquals(16, shop.items.get(1).amount);
+    Assert.assertTrue(shop.limits instanceof EnumMap);
+    Assert.assertEquals(Integer.valueOf(2), shop.limits.get(Rarity.RARE));
+    Assert.assertEquals(Integer.valueOf(64), shop.limits.get(Rarity.COMMON));
+    Assert.assertEquals(Set.of("a", "b"), shop.tags);
+    Assert.assertArrayEquals(new int[]{8, 20}, shop.hours);
+    Assert.assertEquals("Headquarters", shop.parent.title);
+    Assert.assertNull(shop.parent.items);
+    Assert.assertEquals("kept", shop.cache);
+  }
+
+  @Test
+  public void bindScalars() {
+    Assert.assertEquals(Integer.valueOf(5), ConfigBinder.bind(" 5 ", Integer.class));
+    Assert.assertEquals(Long.valueOf(3), ConfigBinder.bind(3.7, long.class));
+    Assert.assertEquals(Rarity.RARE, ConfigBinder.bind("rare", Rarity.class));
+    Assert.assertEquals(List.of("x"), ConfigBinder.bind("x", List.class));
+    Assert.assertThrows(ConfigBindingException.class,
+        () -> ConfigBinder.bind("maybe", Boolean.class));
+  }
+
+  @Test
+  public void errorPath() {
+    Map<String, Object> source = Map.of("items", List.of(Map.of(), Map.of("amount", "lots")));
+    ConfigBindingException exception = Assert.assertThrows(ConfigBindingException.class,
+        () -> ConfigBinder.bind(source, Shop.class));
+    Assert.assertEquals("items[1].amount", exception.getPath());
+    Assert.assertTrue(exception.getMessage().startsWith("items[1].amount: "));
+
+    exception = Assert.assertThrows(ConfigBindingException.class,
+        () -> ConfigBinder.bind(Map.of("limits", Map.of("epic", 1)), Shop.class));
+    Assert.assertEquals("limits.epic", exception.getPath());
+  }
+
+}
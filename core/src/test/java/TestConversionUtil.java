@@ -1,3 +1,12 @@
+import com.github.aparx.bommons.core.EnumLookup;
+import com.github.aparx.bommons.core.ObjectConversion;
+import org.junit.Assert;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.MemorySection;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author aparx (Vinzent Z.)
@@ -6,4 +15,103 @@
  */
 public class TestConversionUtil {
 
+  enum Shape {
+    SQUARE, ROUND_CORNER, Mixed_Case
+  }
+
+  @Test
+  public void toEnum() {
+    Assert.assertEquals(Shape.SQUARE, ObjectConversion.toEnum(Shape.class, "square"));
+    Assert.assertEquals(Shape.ROUND_CORNER, ObjectConversion.toEnum(Shape.class, " Round corner "));
+    Assert.assertEquals(Shape.ROUND_CORNER,
+        ObjectConversion.toEnum(Shape.class, new StringBuilder("ROUND_corner")));
+    Assert.assertEquals(Shape.Mixed_Case, ObjectConversion.toEnum(Shape.class, "MIXED CASE"));
+    Assert.assertEquals(Shape.SQUARE, ObjectConversion.toEnum(Shape.class, Shape.SQUARE));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> ObjectConversion.toEnum(Shape.class, "triangle"));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> ObjectConversion.toEnum(Shape.class, "SQUAREX"));
+  }
+
+  @Test
+  public void tryToEnum() {
+    Assert.assertNull(ObjectConversion.tryToEnum(Shape.class, "triangle"));
+    Assert.assertNull(ObjectConversion.tryToEnum(Shape.class, null));
+    Assert.assertNull(ObjectConversion.tryToEnum(Shape.class, "  "));
+    Assert.assertEquals(Shape.SQUARE, ObjectConversion.tryToEnum(Shape.class, "Square"));
+  }
+
+  @Test
+  public void aliases() {
+    EnumLookup<Shape> lookup = EnumLookup.of(Shape.class);
+    Assert.assertSame(lookup, EnumLookup.of(Shape.class));
+    lookup.registerAlias("box", Shape.SQUARE);
+    lookup.registerAlias("BOX", Shape.SQUARE);
+    Assert.assertEquals(Shape.SQUARE, lookup.find("Box"));
+    Assert.assertEquals(Shape.SQUARE, ObjectConversion.toEnum(Shape.class, "box"));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> lookup.registerAlias("box", Shape.ROUND_CORNER));
+  }
+
+  @Test
+  public void toEnumSet() {
+    EnumSet<Shape> set = ObjectConversion.toEnumSet(Shape.class,
+        Arrays.asList("square", null, Shape.ROUND_CORNER, "SQUARE"));
+    Assert.assertEquals(EnumSet.of(Shape.SQUARE, Shape.ROUND_CORNER), set);
+  }
+
+  @Test
+  public void lazyCollections() {
+    List<Object> source = new ArrayList<>(Arrays.asList(1, null, 'c'));
+    List<String> view = ObjectConversion.asStringList(source);
+    Assert.assertEquals(Arrays.asList("1", null, "c"), view);
+    source.set(0, 2);
+    Assert.assertEquals("2", view.get(0));
+    Assert.assertEquals(Arrays.asList("a", "1"),
+        ObjectConversion.asStringList(new Object[]{"a", 1}));
+    Assert.assertEquals(Arrays.asList("1", "2"),
+        new ArrayList<>(ObjectConversion.asStringCollection(new TreeSet<>(Arrays.asList(2, 1)))));
+    Assert.assertEquals(Arrays.asList("null", "c"),
+        ObjectConversion.streamStrings(source.subList(1, 3).iterator())
+            .map(String::valueOf).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void lazyMaps() {
+    Map<Object, Object> source = new LinkedHashMap<>();
+    source.put(1, "one");
+    source.put("two", 2);
+    Map<String, Object> view = ObjectConversion.asStringMapView(source);
+    Assert.assertEquals("one", view.get("1"));
+    Assert.assertEquals(2, view.get("two"));
+    Assert.assertTrue(view.containsKey("1"));
+    Assert.assertEquals(Arrays.asList("1", "two"), new ArrayList<>(view.keySet()));
+    source.put(3, "three");
+    Assert.assertEquals(3, view.size());
+    Assert.assertEquals("THREE",
+        ObjectConversion.asStringMapView(source, (value) -> value.toString().toUpperCase())
+            .get("3"));
+
+    Map<Integer, String> sorted = new TreeMap<>(Map.of(1, "one", 20, "twenty"));
+    Map<String, Object> sortedView = ObjectConversion.asStringMapView(sorted);
+    Assert.assertEquals("twenty", sortedView.get("20"));
+    Assert.assertNull(sortedView.get("missing"));
+    Assert.assertFalse(sortedView.containsKey("2"));
+    Assert.assertNull(ObjectConversion.asStringMapView(new TreeMap<>(Map.of("a", 1))).get(null));
+
+    MemorySection section = new MemoryConfiguration();
+    section.set("a", 1);
+    section.set("b", "x");
+    Map<String, Object> sectionView = ObjectConversion.asStringMapView(section);
+    Assert.assertEquals("x", sectionView.get("b"));
+    Assert.assertEquals(2, ObjectConversion.streamStringEntries(section).count());
+    section.set("c", true);
+    Assert.assertEquals(3, sectionView.size());
+    Assert.assertTrue(sectionView.containsKey("c"));
+    Assert.assertFalse(sectionView.containsKey("d"));
+    section.set("nested.value", 1);
+    Assert.assertNull(sectionView.get("nested.value"));
+    Assert.assertFalse(sectionView.containsKey("nested.value"));
+  }
+
 }
@@ -0,0 +1,68 @@
+import com.github.aparx.bommons.core.FlatIndexMap;
+import com.github.aparx.bommons.core.IndexMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 11:10
+ * @since 1.0
+ */
+public class TestFlatIndexMap {
+
+  @Test
+  public void putAndRemove() {
+    FlatIndexMap<String> map = new FlatIndexMap<>();
+    map.putAll(new String[]{"a", "b", null});
+    Assert.assertEquals(3, map.size());
+    Assert.assertTrue(map.containsKey(2));
+    Assert.assertTrue(map.contains(2, null));
+    Assert.assertFalse(map.containsKey(3));
+    Assert.assertNull(map.get(200));
+    Assert.assertEquals("b", map.put(1, "c"));
+    Assert.assertEquals("c", map.remove(1));
+    Assert.assertNull(map.remove(1));
+    Assert.assertEquals(2, map.size());
+    map.putAll(Map.of(0, "x", 70, "y"));
+    Assert.assertEquals(70, map.lastIndexOf("y"));
+    Assert.assertEquals(2, map.indexOf(null));
+    Assert.assertEquals(3, map.size());
+  }
+
+  @Test
+  public void iteration() {
+    FlatIndexMap<String> map = new FlatIndexMap<>();
+    map.put(3, "a");
+    map.put(65, "b");
+    StringBuilder builder = new StringBuilder();
+    map.forEach((index, value) -> builder.append(index).append(value));
+    Assert.assertEquals("3a65b", builder.toString());
+
+    Iterator<IndexMap.Entry<String>> iterator = map.iterator();
+    Assert.assertTrue(iterator.hasNext());
+    Assert.assertEquals(3, iterator.next().getIndex());
+    Assert.assertEquals("b", iterator.next().getValue());
+    Assert.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void bulkPutAll() {
+    FlatIndexMap<String> map = new FlatIndexMap<>(2);
+    map.put(1, "x");
+    map.putAll(new String[]{"a", null, "c"}, 0);
+    Assert.assertEquals(3, map.size());
+    Assert.assertTrue(map.containsKey(1));
+    Assert.assertNull(map.get(1));
+    FlatIndexMap<String> other = new FlatIndexMap<>();
+    other.put(0, "d");
+    other.put(64, "e");
+    map.putAll(other, 2);
+    Assert.assertEquals(4, map.size());
+    Assert.assertEquals("d", map.get(2));
+    Assert.assertEquals("e", map.get(66));
+  }
+
+}
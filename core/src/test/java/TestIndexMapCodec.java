@@ -0,0 +1,100 @@
+import com.github.aparx.bommons.core.IndexMap;
+import com.github.aparx.bommons.core.codec.ElementCodecs;
+import com.github.aparx.bommons.core.codec.IndexMapCodec;
+import com.github.aparx.bommons.core.codec.VarInts;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:50
+ * @since 1.0
+ */
+public class TestIndexMapCodec {
+
+  @Test
+  public void varInts() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    int[] values = {0, 1, 127, 128, -1, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    for (int value : values)
+      VarInts.writeVarInt(output, value);
+    VarInts.writeVarLong(output, Long.MIN_VALUE);
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    for (int value : values)
+      Assert.assertEquals(value, VarInts.readVarInt(input));
+    Assert.assertEquals(Long.MIN_VALUE, VarInts.readVarLong(input));
+    Assert.assertEquals(-3, VarInts.unZigZag(VarInts.zigZag(-3)));
+    Assert.assertEquals(5, VarInts.zigZag(-3));
+  }
+
+  @Test
+  public void roundTrip() throws IOException {
+    IndexMap<String> map = new IndexMap<>();
+    map.put(0, "a");
+    map.put(1, null);
+    map.put(2, "\u00fcber");
+    map.put(1000, "z");
+    IndexMapCodec<String> codec = IndexMapCodec.of(ElementCodecs.STRING);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    codec.write(map, new DataOutputStream(bytes));
+    IndexMap<String> read = codec.read(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    Assert.assertEquals(map.toMap(), read.toMap());
+    Assert.assertTrue(read.containsKey(1));
+    Assert.assertEquals(4, read.size());
+  }
+
+  @Test
+  public void byteBuffer() throws IOException {
+    IndexMap<Integer> map = new IndexMap<>();
+    for (int i = 0; i < 100; ++i) map.put(i, i - 50);
+    IndexMapCodec<Integer> codec = IndexMapCodec.of(ElementCodecs.VAR_INT);
+    ByteBuffer buffer = ByteBuffer.allocate(256);
+    codec.write(map, buffer);
+    Assert.assertEquals(2 + 100 * 2, buffer.position());
+    buffer.flip();
+    Assert.assertEquals(map.toMap(), codec.read(buffer).toMap());
+    Assert.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void taggedObjects() throws IOException {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("name", "arena");
+    value.put("size", 3L);
+    value.put("points", Arrays.asList(1, 2.5, null, true));
+    IndexMap<Object> map = new IndexMap<>();
+    map.put(7, value);
+    IndexMapCodec<Object> codec = IndexMapCodec.of(ElementCodecs.object());
+    ByteBuffer buffer = ByteBuffer.allocate(128);
+    codec.write(map, buffer);
+    buffer.flip();
+    Assert.assertEquals(value, codec.read(buffer).get(7));
+  }
+
+  @Test
+  public void taggedNarrowPrimitives() throws IOException {
+    List<Object> value = Arrays.asList((short) -300, (byte) 7, 'x', 12);
+    IndexMap<Object> map = new IndexMap<>();
+    map.put(0, value);
+    IndexMapCodec<Object> codec = IndexMapCodec.of(ElementCodecs.object());
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    codec.write(map, buffer);
+    buffer.flip();
+    Assert.assertEquals(value, codec.read(buffer).get(0));
+  }
+
+  @Test(expected = StreamCorruptedException.class)
+  public void corruptVersion() throws IOException {
+    IndexMapCodec.of(ElementCodecs.INT).read(ByteBuffer.wrap(new byte[]{42, 0}));
+  }
+
+}
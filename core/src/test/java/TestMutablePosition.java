@@ -0,0 +1,67 @@
+import com.github.aparx.bommons.core.position.*;
+import org.bukkit.Location;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:05
+ * @since 1.0
+ */
+public class TestMutablePosition {
+
+  @Test
+  public void arithmeticInPlace() {
+    MutablePosition position = new MutablePosition(1, 2, 3);
+    Assert.assertSame(position, position.add(1, 1, 1).multiply(2).subtract(Vec3D.of(4, 0, 0)));
+    Assert.assertEquals(0, position.getX(), 0.0);
+    Assert.assertEquals(6, position.getY(), 0.0);
+    Assert.assertEquals(8, position.getZ(), 0.0);
+    Assert.assertEquals(10, position.length(), 1e-9);
+    Assert.assertEquals(1, position.normalize().length(), 1e-9);
+    position.set(0, 0, 0).lerp(Vec3D.of(10, 20, -4), 0.5);
+    Assert.assertEquals(-2, position.getZ(), 0.0);
+    Assert.assertEquals(25, position.distanceSquared(5, 10, 3), 0.0);
+  }
+
+  @Test
+  public void conversions() {
+    Position position = Position.of(1.5, -2, 3).toMutable().add(1, 1, 1).toPosition();
+    Assert.assertEquals(2.5, position.getX(), 0.0);
+    Assert.assertEquals(-1, position.getBlockY());
+
+    WorldLocation location = WorldLocation.of(null, 1, 2, 3, 90, 45);
+    MutableWorldLocation mutable = (MutableWorldLocation) location.toMutable();
+    Assert.assertEquals(90, mutable.getYaw(), 0.0);
+    WorldLocation moved = mutable.add(0, 1, 0).rotate(10, 0).toWorldLocation();
+    Assert.assertEquals(3, moved.getY(), 0.0);
+    Assert.assertEquals(100, moved.getYaw(), 0.0);
+    Assert.assertEquals(2, location.getY(), 0.0);
+
+    Location target = new Location(null, 0, 0, 0);
+    mutable.applyTo(target);
+    Assert.assertEquals(45, target.getPitch(), 0.0);
+    Assert.assertEquals(3, target.getY(), 0.0);
+  }
+
+  @Test
+  public void pooling() {
+    PositionPool<MutablePosition> pool = new PositionPool<>(MutablePosition::new, 1);
+    MutablePosition first = pool.acquire(1, 2, 3);
+    MutablePosition second = pool.acquire();
+    pool.release(first);
+    pool.release(second);
+    Assert.assertEquals(1, pool.size());
+    MutablePosition reused = pool.acquire();
+    Assert.assertSame(first, reused);
+    Assert.assertEquals(0, reused.getX(), 0.0);
+    Assert.assertEquals(0, pool.size());
+
+    PositionPool<MutableWorldLocation> locations = PositionPool.localLocations();
+    Assert.assertSame(locations, PositionPool.localLocations());
+    MutableWorldLocation location = locations.acquire().setRotation(5, 5);
+    locations.release(location);
+    Assert.assertEquals(0, locations.acquire().getYaw(), 0.0);
+  }
+
+}
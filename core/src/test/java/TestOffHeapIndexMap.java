@@ -0,0 +1,84 @@
+import com.github.aparx.bommons.core.storage.OffHeapIndexMap;
+import com.github.aparx.bommons.core.storage.RecordLayout;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 15:40
+ * @since 1.0
+ */
+public class TestOffHeapIndexMap {
+
+  private static final RecordLayout LAYOUT = RecordLayout.builder()
+      .addByte("flags")
+      .addDouble("x")
+      .addInt("health")
+      .build();
+
+  @Test
+  public void layout() {
+    Assert.assertEquals(0, LAYOUT.field("flags").getOffset());
+    Assert.assertEquals(8, LAYOUT.field("x").getOffset());
+    Assert.assertEquals(16, LAYOUT.field("health").getOffset());
+    Assert.assertEquals(24, LAYOUT.recordSize());
+    Assert.assertNull(LAYOUT.findField("y"));
+  }
+
+  @Test
+  public void fields() {
+    OffHeapIndexMap map = OffHeapIndexMap.allocate(LAYOUT, 200);
+    RecordLayout.Field health = LAYOUT.field("health");
+    RecordLayout.Field x = LAYOUT.field("x");
+    map.setInt(130, health, 20);
+    map.setDouble(130, x, 1.5);
+    map.setInt(3, health, 7);
+    Assert.assertEquals(2, map.size());
+    Assert.assertEquals(20, map.getInt(130, health));
+    Assert.assertEquals(1.5, map.getDouble(130, x), 0);
+    Assert.assertEquals(0, map.getInt(4, health));
+    Assert.assertEquals(3, map.nextIndex(0));
+    Assert.assertEquals(130, map.nextIndex(4));
+    Assert.assertTrue(map.remove(3));
+    Assert.assertEquals(0, map.getInt(3, health));
+    Assert.assertEquals(1, map.size());
+    Assert.assertThrows(IllegalArgumentException.class, () -> map.getLong(0, health));
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> map.setInt(200, health, 1));
+    // same type and record size, but a field of another layout
+    RecordLayout.Field foreign = RecordLayout.builder()
+        .addByte("flags").addDouble("x").addInt("health").build().field("health");
+    Assert.assertThrows(IllegalArgumentException.class, () -> map.getInt(130, foreign));
+  }
+
+  @Test
+  public void persistence() throws IOException {
+    Path directory = Files.createTempDirectory("offheap");
+    Path file = directory.resolve("records.bin");
+    RecordLayout.Field health = LAYOUT.field("health");
+    OffHeapIndexMap map = OffHeapIndexMap.map(file, LAYOUT, 100);
+    Assert.assertTrue(map.isMapped());
+    map.setInt(42, health, 9);
+    map.force();
+
+    OffHeapIndexMap mapped = OffHeapIndexMap.map(file, LAYOUT, 0);
+    Assert.assertEquals(100, mapped.capacity());
+    Assert.assertEquals(1, mapped.size());
+    Assert.assertEquals(9, mapped.getInt(42, health));
+
+    Path copy = directory.resolve("copy.bin");
+    OffHeapIndexMap heap = OffHeapIndexMap.allocate(LAYOUT, 10);
+    heap.setInt(1, health, 5);
+    heap.writeTo(copy);
+    Assert.assertEquals(5, OffHeapIndexMap.map(copy, LAYOUT, 0).getInt(1, health));
+
+    RecordLayout other = RecordLayout.builder().addInt("health").build();
+    Assert.assertThrows(StreamCorruptedException.class,
+        () -> OffHeapIndexMap.map(copy, other, 0));
+  }
+
+}
@@ -0,0 +1,131 @@
+import com.github.aparx.bommons.core.IndexMap;
+import com.github.aparx.bommons.core.PagedIndexMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 11:50
+ * @since 1.0
+ */
+public class TestPagedIndexMap {
+
+  @Test
+  public void sparsePut() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(64);
+    Assert.assertNull(map.put(5_000_000, "a"));
+    Assert.assertNull(map.put(3, "b"));
+    Assert.assertEquals(2, map.size());
+    Assert.assertEquals(2, map.pageCount());
+    Assert.assertEquals("a", map.get(5_000_000));
+    Assert.assertEquals("b", map.get(3));
+    Assert.assertNull(map.get(4));
+    Assert.assertNull(map.get(Integer.MAX_VALUE));
+    Assert.assertEquals("a", map.put(5_000_000, "c"));
+    Assert.assertEquals(2, map.size());
+  }
+
+  @Test
+  public void removeReleasesPages() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(64);
+    map.put(64, "a");
+    map.put(65, null);
+    Assert.assertEquals(1, map.pageCount());
+    Assert.assertTrue(map.containsKey(65));
+    Assert.assertNull(map.remove(65));
+    Assert.assertFalse(map.containsKey(65));
+    Assert.assertEquals(1, map.pageCount());
+    Assert.assertEquals("a", map.remove(64));
+    Assert.assertEquals(0, map.pageCount());
+    Assert.assertEquals(0, map.size());
+    Assert.assertNull(map.remove(64));
+  }
+
+  @Test
+  public void iteration() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(64);
+    map.put(1_000, "b");
+    map.put(2, "a");
+    map.put(1_000_000, "c");
+    StringBuilder builder = new StringBuilder();
+    map.forEach((index, value) -> builder.append(index).append(value));
+    Assert.assertEquals("2a1000b1000000c", builder.toString());
+    Assert.assertEquals(1_000, map.indexOf("b"));
+    Assert.assertEquals(1_000_000, map.lastIndexOf("c"));
+
+    Iterator<IndexMap.Entry<String>> iterator = map.iterator();
+    Assert.assertEquals(2, iterator.next().getIndex());
+    Assert.assertEquals(1_000, iterator.next().getIndex());
+    Assert.assertEquals("c", iterator.next().getValue());
+    Assert.assertFalse(iterator.hasNext());
+
+    PagedIndexMap<String> clone = map.clone();
+    map.clear();
+    Assert.assertEquals(3, clone.size());
+    Assert.assertEquals("c", clone.get(1_000_000));
+  }
+
+  @Test
+  public void snapshot() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(64);
+    map.put(1, "a");
+    map.put(100, "b");
+    PagedIndexMap<String> snapshot = map.snapshot();
+    Assert.assertTrue(snapshot.isSnapshot());
+    Assert.assertSame(snapshot, snapshot.snapshot());
+    map.put(1, "c");
+    map.remove(100);
+    map.put(500, "d");
+    Assert.assertEquals("a", snapshot.get(1));
+    Assert.assertEquals("b", snapshot.get(100));
+    Assert.assertNull(snapshot.get(500));
+    Assert.assertEquals(2, snapshot.size());
+    Assert.assertEquals("c", map.get(1));
+    Assert.assertNull(map.get(100));
+    Assert.assertThrows(UnsupportedOperationException.class, () -> snapshot.put(2, "x"));
+    Assert.assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(1));
+
+    PagedIndexMap<String> fork = new PagedIndexMap<>(snapshot);
+    fork.put(1, "e");
+    Assert.assertEquals("a", snapshot.get(1));
+    Assert.assertEquals("c", map.get(1));
+    Assert.assertEquals("e", fork.get(1));
+
+    PagedIndexMap<String> clone = map.clone();
+    clone.put(1, "f");
+    map.put(500, "g");
+    Assert.assertEquals("c", map.get(1));
+    Assert.assertEquals("d", clone.get(500));
+  }
+
+  @Test
+  public void diffSkipsSharedPages() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(64);
+    for (int i = 0; i < 640; ++i)
+      map.put(i, "v" + i);
+    PagedIndexMap<String> previous = map.snapshot();
+    map.put(65, "changed");
+    map.remove(300);
+    map.put(1000, "new");
+    StringBuilder builder = new StringBuilder();
+    previous.diff(map, IndexMap.DiffConsumer.ofIndices(
+        (index) -> builder.append(index).append(',')));
+    Assert.assertEquals("65,300,1000,", builder.toString());
+  }
+
+  @Test
+  public void pageSizeOfOne() {
+    PagedIndexMap<String> map = new PagedIndexMap<>(1);
+    map.put(0, "a");
+    map.put(5, "b");
+    map.put(1000, "c");
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("a", map.get(0));
+    Assert.assertEquals("b", map.get(5));
+    Assert.assertEquals("c", map.get(1000));
+    Assert.assertNull(map.get(999));
+  }
+
+}
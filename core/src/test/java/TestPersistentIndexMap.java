@@ -0,0 +1,105 @@
+import com.github.aparx.bommons.core.codec.ElementCodecs;
+import com.github.aparx.bommons.core.storage.PersistentIndexMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 16:30
+ * @since 1.0
+ */
+public class TestPersistentIndexMap {
+
+  @Test
+  public void persistence() throws IOException {
+    Path file = Files.createTempDirectory("persistent").resolve("map.bin");
+    try (PersistentIndexMap<String> map = PersistentIndexMap.open(file, ElementCodecs.STRING)) {
+      map.put(0, "a");
+      map.put(1, null);
+      map.put(1000, "b");
+      Assert.assertEquals(3, map.size());
+      Assert.assertTrue(map.isDirty());
+      map.flush();
+      Assert.assertFalse(map.isDirty());
+      map.remove(0);
+    }
+    try (PersistentIndexMap<String> map = PersistentIndexMap.open(file, ElementCodecs.STRING)) {
+      Assert.assertEquals(2, map.size());
+      Assert.assertNull(map.get(0));
+      Assert.assertTrue(map.containsKey(1));
+      Assert.assertEquals("b", map.get(1000));
+      StringBuilder builder = new StringBuilder();
+      map.forEach((index, value) -> builder.append(index).append('=').append(value).append(';'));
+      Assert.assertEquals("1=null;1000=b;", builder.toString());
+    }
+  }
+
+  @Test
+  public void tornSlotFallsBack() throws IOException {
+    Path file = Files.createTempDirectory("persistent").resolve("map.bin");
+    try (PersistentIndexMap<Integer> map =
+             PersistentIndexMap.open(file, ElementCodecs.INT, 16, 4)) {
+      map.put(3, 1);
+      map.flush(); // first generation in slot 0
+      map.put(3, 2);
+    } // second generation in slot 1
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.seek(32 + 32 + 20); // corrupt the generation of page 0, slot 1
+      raf.writeByte(0x7F);
+    }
+    try (PersistentIndexMap<Integer> map = PersistentIndexMap.open(file, ElementCodecs.INT)) {
+      Assert.assertEquals(16, map.pageSize());
+      Assert.assertEquals(Integer.valueOf(1), map.get(3));
+    }
+  }
+
+  @Test
+  public void compact() throws IOException {
+    Path file = Files.createTempDirectory("persistent").resolve("map.bin");
+    try (PersistentIndexMap<Long> map = PersistentIndexMap.open(file, ElementCodecs.LONG)) {
+      for (int round = 0; round < 20; ++round) {
+        for (int i = 0; i < 100; ++i)
+          map.put(i, (long) round);
+        map.flush();
+      }
+      long size = Files.size(file);
+      map.compact();
+      Assert.assertTrue(Files.size(file) < size);
+      Assert.assertEquals(Long.valueOf(19), map.get(50));
+      map.put(200, 1L);
+    }
+    try (PersistentIndexMap<Long> map = PersistentIndexMap.open(file, ElementCodecs.LONG)) {
+      Assert.assertEquals(101, map.size());
+      Assert.assertEquals(Long.valueOf(19), map.get(99));
+    }
+  }
+
+  @Test
+  public void reopenAfterCompact() throws IOException {
+    Path file = Files.createTempDirectory("persistent").resolve("map.bin");
+    try (PersistentIndexMap<Long> map = PersistentIndexMap.open(file, ElementCodecs.LONG)) {
+      for (int i = 0; i < 300; i += 3)
+        map.put(i, (long) i);
+      map.flush();
+      map.remove(3);
+      map.compact();
+    }
+    Assert.assertFalse(Files.exists(file.resolveSibling("map.bin.compact")));
+    try (PersistentIndexMap<Long> map = PersistentIndexMap.open(file, ElementCodecs.LONG)) {
+      Assert.assertEquals(99, map.size());
+      Assert.assertFalse(map.containsKey(3));
+      Assert.assertEquals(Long.valueOf(297), map.get(297));
+      map.compact();
+      Assert.assertEquals(Long.valueOf(0), map.get(0));
+    }
+    try (PersistentIndexMap<Long> map = PersistentIndexMap.open(file, ElementCodecs.LONG)) {
+      Assert.assertEquals(99, map.size());
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+import com.github.aparx.bommons.core.position.MutablePosition;
+import com.github.aparx.bommons.core.position.PositionBuffer;
+import com.github.aparx.bommons.core.position.Vec3D;
+import org.bukkit.util.BoundingBox;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 19:40
+ * @since 1.0
+ */
+public class TestPositionBuffer {
+
+  @Test
+  public void addAndTransform() {
+    PositionBuffer buffer = new PositionBuffer(1);
+    for (int i = 0; i < 100; ++i)
+      Assert.assertEquals(i, buffer.add(i, 2 * i, -i));
+    Assert.assertEquals(100, buffer.size());
+    buffer.translate(1, 0, 1);
+    buffer.scale(2);
+    Assert.assertEquals(22, buffer.getX(10), 0.0);
+    Assert.assertEquals(40, buffer.getY(10), 0.0);
+    Assert.assertEquals(-18, buffer.getZ(10), 0.0);
+    buffer.scale(Vec3D.of(22, 40, -18), 0.5);
+    Assert.assertEquals(22, buffer.getX(10), 0.0);
+    Assert.assertEquals(23, buffer.getX(11), 0.0);
+    MutablePosition target = buffer.get(11, new MutablePosition());
+    Assert.assertEquals(42, target.getY(), 0.0);
+    buffer.swapRemove(0);
+    Assert.assertEquals(99, buffer.size());
+    Assert.assertEquals(22 + 89, buffer.getX(0), 0.0);
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> buffer.getX(99));
+  }
+
+  @Test
+  public void distancesAndFilters() {
+    PositionBuffer buffer = new PositionBuffer();
+    for (int i = 0; i < 10; ++i)
+      buffer.add(i, 0, 0);
+    double[] distances = buffer.distanceSquared(Vec3D.of(2, 0, 0), new double[10]);
+    Assert.assertEquals(4, distances[0], 0.0);
+    Assert.assertEquals(49, distances[9], 0.0);
+
+    int[] indices = new int[buffer.size()];
+    int count = buffer.indicesWithin(5, 0, 0, 2, indices);
+    Assert.assertEquals(5, count);
+    Assert.assertArrayEquals(new int[]{3, 4, 5, 6, 7}, java.util.Arrays.copyOf(indices, count));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> buffer.indicesWithin(0, 0, 0, 1, new int[2]));
+
+    Assert.assertEquals(7, buffer.retainWithin(0, 0, 0, 2.5));
+    Assert.assertArrayEquals(new double[]{0, 1, 2}, buffer.toXArray(), 0.0);
+  }
+
+  @Test
+  public void boundingBox() {
+    PositionBuffer buffer = new PositionBuffer();
+    Assert.assertThrows(IllegalStateException.class, buffer::boundingBox);
+    buffer.add(1, -5, 3);
+    buffer.add(-2, 4, 3);
+    buffer.add(0, 0, 9);
+    BoundingBox box = buffer.boundingBox();
+    Assert.assertEquals(-2, box.getMinX(), 0.0);
+    Assert.assertEquals(-5, box.getMinY(), 0.0);
+    Assert.assertEquals(3, box.getMinZ(), 0.0);
+    Assert.assertEquals(1, box.getMaxX(), 0.0);
+    Assert.assertEquals(4, box.getMaxY(), 0.0);
+    Assert.assertEquals(9, box.getMaxZ(), 0.0);
+  }
+
+}
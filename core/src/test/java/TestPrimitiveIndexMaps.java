@@ -0,0 +1,122 @@
+import com.github.aparx.bommons.core.DoubleIndexMap;
+import com.github.aparx.bommons.core.IntIndexMap;
+import com.github.aparx.bommons.core.LongIndexMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 10:20
+ * @since 1.0
+ */
+public class TestPrimitiveIndexMaps {
+
+  @Test
+  public void putAndGet() {
+    IntIndexMap map = new IntIndexMap();
+    Assert.assertEquals(0, map.put(0, 5));
+    Assert.assertEquals(0, map.put(3, 0));
+    Assert.assertEquals(5, map.put(0, 6));
+    Assert.assertEquals(6, map.get(0));
+    Assert.assertEquals(0, map.get(3));
+    Assert.assertEquals(-1, map.getOrDefault(1, -1));
+    Assert.assertEquals(0, map.getOrDefault(3, -1));
+    Assert.assertEquals(-1, map.getOrDefault(100, -1));
+    Assert.assertEquals(2, map.size());
+    map.put(50, 1);
+    Assert.assertTrue(map.capacity() > 50);
+    Assert.assertEquals(3, map.size());
+  }
+
+  @Test
+  public void remove() {
+    LongIndexMap map = new LongIndexMap();
+    map.putAll(new long[]{1, 2, 3, 4});
+    Assert.assertEquals(2L, map.remove(1));
+    Assert.assertEquals(0L, map.remove(1));
+    Assert.assertEquals(0L, map.remove(1000));
+    Assert.assertFalse(map.remove(2, 4L));
+    Assert.assertTrue(map.remove(2, 3L));
+    Assert.assertEquals(2, map.size());
+    Assert.assertFalse(map.containsKey(1));
+    Assert.assertTrue(map.containsKey(3));
+    map.clear();
+    Assert.assertEquals(0, map.size());
+    Assert.assertFalse(map.containsKey(0));
+  }
+
+  @Test
+  public void indexOf() {
+    DoubleIndexMap map = new DoubleIndexMap();
+    map.put(2, 1.5);
+    map.put(70, 1.5);
+    map.put(71, Double.NaN);
+    Assert.assertEquals(2, map.indexOf(1.5));
+    Assert.assertEquals(70, map.lastIndexOf(1.5));
+    Assert.assertEquals(71, map.indexOf(Double.NaN));
+    Assert.assertEquals(-1, map.indexOf(0.0));
+    Assert.assertTrue(map.containsValue(Double.NaN));
+    Assert.assertTrue(map.contains(71, Double.NaN));
+  }
+
+  @Test
+  public void iteration() {
+    IntIndexMap map = new IntIndexMap();
+    map.put(1, 10);
+    map.put(64, 20);
+    map.put(130, 30);
+    StringBuilder builder = new StringBuilder();
+    map.forEach((index, value) -> builder.append(index).append('=').append(value).append(';'));
+    Assert.assertEquals("1=10;64=20;130=30;", builder.toString());
+
+    IntIndexMap.Cursor cursor = map.cursor();
+    int sum = 0;
+    while (cursor.next()) {
+      sum += cursor.value();
+      if (cursor.index() == 64)
+        cursor.remove();
+    }
+    Assert.assertEquals(60, sum);
+    Assert.assertFalse(cursor.next());
+    Assert.assertEquals(2, map.size());
+    Assert.assertFalse(map.containsKey(64));
+  }
+
+  @Test
+  public void copy() {
+    IntIndexMap map = new IntIndexMap();
+    map.put(4, 4);
+    IntIndexMap copy = new IntIndexMap(map);
+    IntIndexMap clone = map.clone();
+    map.put(4, 5);
+    Assert.assertEquals(4, copy.get(4));
+    Assert.assertEquals(4, clone.get(4));
+    copy.putAll(map, 2);
+    Assert.assertEquals(5, copy.get(6));
+    Assert.assertEquals(2, copy.size());
+  }
+
+  @Test
+  public void bulkPutAll() {
+    IntIndexMap source = new IntIndexMap();
+    for (int i = 0; i < 70; ++i) source.put(i, i);
+    source.remove(10);
+    source.put(130, 130);
+    IntIndexMap target = new IntIndexMap();
+    target.put(5, -1);
+    target.put(100, -1);
+    target.putAll(source, 3);
+    Assert.assertEquals(71, target.size());
+    Assert.assertEquals(2, target.get(5));
+    Assert.assertFalse(target.containsKey(13));
+    Assert.assertEquals(130, target.get(133));
+    Assert.assertEquals(-1, target.get(100));
+    target.putAll(new int[]{7, 8, 9}, 0);
+    Assert.assertEquals(74, target.size());
+    Assert.assertEquals(9, target.get(2));
+    target.putAll(target, 1);
+    Assert.assertEquals(9, target.get(3));
+    Assert.assertEquals(130, target.get(134));
+  }
+
+}
@@ -0,0 +1,81 @@
+import com.github.aparx.bommons.core.position.Position;
+import com.github.aparx.bommons.core.position.SpatialIndex;
+import com.github.aparx.bommons.core.position.Vec3D;
+import org.bukkit.util.BoundingBox;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:15
+ * @since 1.0
+ */
+public class TestSpatialIndex {
+
+  @Test
+  public void insertMoveRemove() {
+    SpatialIndex<String> index = new SpatialIndex<>();
+    Assert.assertTrue(index.insert("a", 1, 64, 1));
+    Assert.assertTrue(index.insert("b", -1, 64, -1));
+    Assert.assertTrue(index.insert("c", 40, 64, 40));
+    Assert.assertEquals(3, index.bucketCount());
+    Assert.assertFalse(index.insert("a", 2, 64, 2));
+    Assert.assertEquals(3, index.size());
+    Assert.assertTrue(index.move("c", 3, 64, 3));
+    Assert.assertEquals(2, index.bucketCount());
+    Assert.assertEquals(3, index.getPosition("c").getX(), 0.0);
+    Assert.assertFalse(index.move("d", 0, 0, 0));
+    Assert.assertTrue(index.remove("a"));
+    Assert.assertFalse(index.remove("a"));
+    Assert.assertNull(index.getPosition("a"));
+    Assert.assertEquals(List.of("c"), index.findWithin(Vec3D.of(3, 64, 3), 1));
+    Assert.assertTrue(index.remove("b"));
+    Assert.assertEquals(1, index.bucketCount());
+  }
+
+  @Test
+  public void queriesMatchBruteForce() {
+    Random random = new Random(7);
+    SpatialIndex<Integer> index = new SpatialIndex<>();
+    Position[] positions = new Position[2000];
+    for (int i = 0; i < positions.length; ++i) {
+      positions[i] = Position.of(random.nextGaussian() * 200, random.nextDouble() * 256,
+          random.nextGaussian() * 200);
+      index.insert(i, positions[i]);
+    }
+    for (int i = 0; i < 200; ++i) // move some values across chunks
+      index.move(i, positions[i] = positions[i].add(random.nextDouble() * 50, 0, -30));
+    for (int query = 0; query < 50; ++query) {
+      Position center = Position.of(random.nextGaussian() * 250, random.nextDouble() * 256,
+          random.nextGaussian() * 250);
+      double radius = random.nextDouble() * (query < 40 ? 60 : 2000);
+      Set<Integer> expected = new HashSet<>();
+      for (int i = 0; i < positions.length; ++i)
+        if (positions[i].distanceSquared(center) <= radius * radius) expected.add(i);
+      Assert.assertEquals(expected, new HashSet<>(index.findWithin(center, radius)));
+
+      BoundingBox box = new BoundingBox(center.getX() - radius, 0, center.getZ() - radius,
+          center.getX() + radius, 128, center.getZ() + radius);
+      expected.clear();
+      for (int i = 0; i < positions.length; ++i) {
+        Position p = positions[i];
+        if (p.getX() >= box.getMinX() && p.getX() <= box.getMaxX() && p.getY() <= 128
+            && p.getZ() >= box.getMinZ() && p.getZ() <= box.getMaxZ()) expected.add(i);
+      }
+      Assert.assertEquals(expected, new HashSet<>(index.findInBox(box)));
+
+      int k = 1 + random.nextInt(query < 45 ? 20 : 3000);
+      Integer[] order = new Integer[positions.length];
+      for (int i = 0; i < order.length; ++i) order[i] = i;
+      Arrays.sort(order, Comparator.comparingDouble((i) -> positions[i].distanceSquared(center)));
+      List<Integer> nearest = index.nearest(center, k);
+      Assert.assertEquals(Math.min(k, positions.length), nearest.size());
+      for (int i = 0; i < nearest.size(); ++i)
+        Assert.assertEquals(positions[order[i]].distanceSquared(center),
+            positions[nearest.get(i)].distanceSquared(center), 1e-9);
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+import com.github.aparx.bommons.core.WeakHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 17:55
+ * @since 1.0
+ */
+public class TestWeakHashSet {
+
+  @Test
+  public void basics() {
+    WeakHashSet<String> set = new WeakHashSet<>();
+    Assert.assertTrue(set.add("a"));
+    Assert.assertFalse(set.add("a"));
+    Assert.assertTrue(set.contains("a"));
+    Assert.assertFalse(set.contains(new Object()));
+    Assert.assertTrue(set.remove("a"));
+    Assert.assertFalse(set.remove("a"));
+    Assert.assertFalse(set.isTrackingCleanup());
+    Assert.assertThrows(IllegalStateException.class, () -> set.add("b", "attachment"));
+  }
+
+  @Test
+  public void cleanupListener() throws InterruptedException {
+    List<Object> cleaned = new ArrayList<>();
+    WeakHashSet<Object> set = new WeakHashSet<>(16, cleaned::add);
+    Object retained = new Object();
+    Object removed = new Object();
+    set.add(retained, "retained");
+    set.add(removed, "removed");
+    for (int i = 0; i < 10; ++i)
+      set.add(new Object(), i);
+    Assert.assertTrue(set.remove(removed));
+    for (int i = 0; i < 50 && set.getExpungedCount() < 10; ++i) {
+      System.gc();
+      Thread.sleep(10);
+      set.expungeStaleEntries();
+    }
+    Assert.assertEquals(10, set.getExpungedCount());
+    Assert.assertEquals(0, set.getPendingCount());
+    Assert.assertEquals(10, cleaned.size());
+    Assert.assertFalse(cleaned.contains("removed"));
+    Assert.assertEquals(1, set.size());
+
+    Iterator<Object> iterator = set.iterator();
+    Assert.assertSame(retained, iterator.next());
+    iterator.remove();
+    Assert.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void pendingCountWithNull() throws InterruptedException {
+    WeakHashSet<Object> set = new WeakHashSet<>(16, (attachment) -> {});
+    Assert.assertTrue(set.add(null));
+    set.add(new Object());
+    for (int i = 0; i < 50 && set.getPendingCount() == 0; ++i) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(1, set.getPendingCount());
+    Assert.assertEquals(1, set.expungeStaleEntries());
+    Assert.assertEquals(0, set.getPendingCount());
+    Assert.assertTrue(set.contains(null));
+  }
+
+}
@@ -0,0 +1,104 @@
+import com.github.aparx.bommons.core.WeakIdentityHashSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 17:05
+ * @since 1.0
+ */
+public class TestWeakIdentityHashSet {
+
+  @Test
+  public void identity() {
+    WeakIdentityHashSet<String> set = new WeakIdentityHashSet<>();
+    String a = new String("a");
+    String b = new String("a");
+    Assert.assertTrue(set.add(a));
+    Assert.assertFalse(set.add(a));
+    Assert.assertTrue(set.add(b));
+    Assert.assertEquals(2, set.size());
+    Assert.assertFalse(set.contains("a"));
+    Assert.assertTrue(set.remove(a));
+    Assert.assertFalse(set.contains(a));
+    Assert.assertTrue(set.contains(b));
+  }
+
+  @Test
+  public void growAndRemove() {
+    WeakIdentityHashSet<Object> set = new WeakIdentityHashSet<>(2);
+    List<Object> elements = new ArrayList<>();
+    for (int i = 0; i < 1000; ++i) {
+      Object element = new Object();
+      elements.add(element);
+      set.add(element);
+    }
+    Assert.assertEquals(1000, set.size());
+    for (int i = 0; i < 1000; i += 2)
+      Assert.assertTrue(set.remove(elements.get(i)));
+    Assert.assertEquals(500, set.size());
+    for (int i = 0; i < 1000; ++i)
+      Assert.assertEquals(i % 2 == 1, set.contains(elements.get(i)));
+  }
+
+  @Test
+  public void iteratorRemove() {
+    WeakIdentityHashSet<Integer> set = new WeakIdentityHashSet<>();
+    List<Integer> elements = new ArrayList<>();
+    for (int i = 0; i < 200; ++i) {
+      Integer element = i;
+      elements.add(element);
+      set.add(element);
+    }
+    int visited = 0;
+    for (Iterator<Integer> iterator = set.iterator(); iterator.hasNext(); ++visited)
+      if (iterator.next() % 3 == 0) iterator.remove();
+    Assert.assertEquals(200, visited);
+    Assert.assertEquals(133, set.size());
+    for (Integer element : elements)
+      Assert.assertEquals(element % 3 != 0, set.contains(element));
+  }
+
+  @Test
+  public void expunge() throws InterruptedException {
+    WeakIdentityHashSet<Object> set = new WeakIdentityHashSet<>();
+    Object retained = new Object();
+    set.add(retained);
+    for (int i = 0; i < 100; ++i)
+      set.add(new Object());
+    for (int i = 0; i < 50 && set.size() > 1; ++i) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(1, set.size());
+    Assert.assertTrue(set.contains(retained));
+  }
+
+  @Test
+  public void addAfterExpungeOnResize() {
+    // reclaimed entries are enqueued between adds, so that growing the table first expunges
+    // them, which shifts entries and may free enough slots to not grow the table at all
+    WeakIdentityHashSet<Object> set = new WeakIdentityHashSet<>();
+    List<Object> retained = new ArrayList<>();
+    for (int round = 0; round < 40; ++round) {
+      for (int i = 0; i < 4000; ++i) {
+        Object element = new Object();
+        Assert.assertTrue(set.add(element));
+        if ((i & 3) == 0) {
+          retained.add(element);
+          Assert.assertTrue(set.contains(element));
+          Assert.assertFalse(set.add(element));
+        }
+      }
+      System.gc();
+    }
+    Assert.assertTrue(set.size() >= retained.size());
+    for (Object element : retained)
+      Assert.assertTrue(set.contains(element));
+  }
+
+}
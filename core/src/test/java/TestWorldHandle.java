@@ -0,0 +1,59 @@
+import com.github.aparx.bommons.core.position.WorldHandle;
+import com.github.aparx.bommons.core.position.WorldLocation;
+import com.github.aparx.bommons.core.position.WorldPosition;
+import org.bukkit.World;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 21:20
+ * @since 1.0
+ */
+public class TestWorldHandle {
+
+  private static World createWorld(UUID worldId) {
+    return (World) Proxy.newProxyInstance(World.class.getClassLoader(),
+        new Class<?>[]{World.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getUID": return worldId;
+            case "getName": return "world-" + worldId;
+            case "hashCode": return System.identityHashCode(proxy);
+            case "equals": return proxy == args[0];
+            default: throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  @Test
+  public void interning() {
+    UUID worldId = UUID.randomUUID();
+    World world = createWorld(worldId);
+    WorldHandle handle = WorldHandle.of(world);
+    Assert.assertSame(handle, WorldHandle.of(worldId));
+    Assert.assertSame(handle, WorldHandle.of(createWorld(worldId)));
+    Assert.assertSame(world, handle.findWorld());
+    Assert.assertEquals(worldId, handle.getWorldId());
+    Assert.assertNotSame(handle, WorldHandle.of(UUID.randomUUID()));
+    Assert.assertFalse(WorldHandle.isTracking());
+  }
+
+  @Test
+  public void positionsShareHandle() {
+    World world = createWorld(UUID.randomUUID());
+    WorldPosition position = WorldPosition.of(world, 1, 2, 3);
+    WorldPosition derived = position.add(1, 1, 1).setY(5).multiply(2, 2, 2);
+    Assert.assertSame(position.getWorldHandle(), derived.getWorldHandle());
+    Assert.assertSame(world, derived.getWorld());
+
+    WorldLocation location = WorldLocation.of(world, 0, 0, 0, 90, 0).subtract(1, 0, 0);
+    Assert.assertSame(position.getWorldHandle(), location.setYaw(45).getWorldHandle());
+    Assert.assertNull(WorldPosition.of().getWorldHandle());
+    Assert.assertFalse(WorldPosition.of().isWorldLoaded());
+    Assert.assertThrows(NullPointerException.class, () -> WorldPosition.of().getWorld());
+  }
+
+}
@@ -0,0 +1,90 @@
+package com.github.aparx.bommons.core.benchmark;
+
+import com.github.aparx.bommons.core.ConcurrentIndexMap;
+import com.github.aparx.bommons.core.IndexMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link ConcurrentIndexMap} against an {@link IndexMap} guarded by a monitor,
+ * with three reading threads and one writing thread sharing the same map.
+ * <p>Run through {@link #main(String[])} from the test classpath, after {@code mvn
+ * test-compile} generated the benchmark harness.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 13:20
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+public class IndexMapContentionBenchmark {
+
+  @Param({"54", "4096"})
+  int indexCount;
+
+  ConcurrentIndexMap<Integer> concurrentMap;
+
+  IndexMap<Integer> synchronizedMap;
+
+  @Setup
+  public void setup() {
+    concurrentMap = new ConcurrentIndexMap<>(indexCount);
+    synchronizedMap = new IndexMap<>(indexCount);
+    for (int i = 0; i < indexCount; ++i) {
+      concurrentMap.put(i, i);
+      synchronizedMap.put(i, i);
+    }
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(3)
+  public void concurrentRead(Blackhole blackhole) {
+    blackhole.consume(concurrentMap.get(ThreadLocalRandom.current().nextInt(indexCount)));
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public void concurrentWrite() {
+    int index = ThreadLocalRandom.current().nextInt(indexCount);
+    concurrentMap.put(index, index);
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(3)
+  public void synchronizedRead(Blackhole blackhole) {
+    int index = ThreadLocalRandom.current().nextInt(indexCount);
+    synchronized (synchronizedMap) {
+      blackhole.consume(synchronizedMap.get(index));
+    }
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(1)
+  public void synchronizedWrite() {
+    int index = ThreadLocalRandom.current().nextInt(indexCount);
+    synchronized (synchronizedMap) {
+      synchronizedMap.put(index, index);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(IndexMapContentionBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
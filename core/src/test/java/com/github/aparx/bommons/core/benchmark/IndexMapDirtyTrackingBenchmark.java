@@ -0,0 +1,60 @@
+package com.github.aparx.bommons.core.benchmark;
+
+import com.github.aparx.bommons.core.IndexMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link IndexMap#setDirtyTracking(boolean) dirty tracking} on a
+ * put/remove cycle over a chest-sized map, with tracking disabled and enabled.
+ * <p>Run through {@link #main(String[])} from the test classpath, after {@code mvn
+ * test-compile} generated the benchmark harness.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 14:10
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class IndexMapDirtyTrackingBenchmark {
+
+  private static final int SLOT_COUNT = 54;
+
+  @Param({"false", "true"})
+  boolean dirtyTracking;
+
+  IndexMap<String> map;
+
+  @Setup
+  public void setup() {
+    map = new IndexMap<>(SLOT_COUNT);
+    map.setDirtyTracking(dirtyTracking);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SLOT_COUNT)
+  public void putAndRemove(Blackhole blackhole) {
+    for (int i = 0; i < SLOT_COUNT; ++i)
+      map.put(i, "value");
+    for (int i = 0; i < SLOT_COUNT; ++i)
+      blackhole.consume(map.remove(i));
+    if (dirtyTracking)
+      map.drainDirty(blackhole::consume);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(IndexMapDirtyTrackingBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
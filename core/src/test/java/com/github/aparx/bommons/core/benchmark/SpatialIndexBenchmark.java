@@ -0,0 +1,102 @@
+package com.github.aparx.bommons.core.benchmark;
+
+import com.github.aparx.bommons.core.position.Position;
+import com.github.aparx.bommons.core.position.SpatialIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares radius and nearest-neighbour queries of a {@link SpatialIndex} against a brute-force
+ * scan over an array of {@link Position} objects, with points spread uniformly over a square
+ * region of 4096 blocks.
+ * <p>Run through {@link #main(String[])} from the test classpath, after {@code mvn
+ * test-compile} generated the benchmark harness.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 20:15
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SpatialIndexBenchmark {
+
+  private static final double REGION_SIZE = 4096;
+
+  private static final double QUERY_RADIUS = 32;
+
+  @Param({"10000", "100000", "1000000"})
+  int pointCount;
+
+  Position[] positions;
+
+  SpatialIndex<Integer> index;
+
+  Position[] queries;
+
+  int nextQuery;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(42);
+    positions = new Position[pointCount];
+    index = new SpatialIndex<>();
+    for (int i = 0; i < pointCount; ++i) {
+      positions[i] = randomPosition(random);
+      index.insert(i, positions[i]);
+    }
+    queries = new Position[1024];
+    for (int i = 0; i < queries.length; ++i)
+      queries[i] = randomPosition(random);
+  }
+
+  private static Position randomPosition(SplittableRandom random) {
+    return Position.of(random.nextDouble(REGION_SIZE), random.nextDouble(256),
+        random.nextDouble(REGION_SIZE));
+  }
+
+  private Position nextQuery() {
+    return queries[nextQuery++ & (queries.length - 1)];
+  }
+
+  @Benchmark
+  public void bruteForceRadius(Blackhole blackhole) {
+    Position center = nextQuery();
+    double radiusSquared = QUERY_RADIUS * QUERY_RADIUS;
+    for (Position position : positions)
+      if (position.distanceSquared(center) <= radiusSquared)
+        blackhole.consume(position);
+  }
+
+  @Benchmark
+  public void indexRadius(Blackhole blackhole) {
+    index.forEachWithin(nextQuery(), QUERY_RADIUS, blackhole::consume);
+  }
+
+  @Benchmark
+  public Object indexNearest() {
+    return index.nearest(nextQuery(), 8);
+  }
+
+  @Benchmark
+  public void indexMove() {
+    int value = Math.floorMod(nextQuery * 7919, pointCount);
+    index.move(value, nextQuery());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(SpatialIndexBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}
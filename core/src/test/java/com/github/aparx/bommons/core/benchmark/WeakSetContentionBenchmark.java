@@ -0,0 +1,99 @@
+package com.github.aparx.bommons.core.benchmark;
+
+import com.github.aparx.bommons.core.ConcurrentWeakHashSet;
+import com.github.aparx.bommons.core.WeakHashSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link ConcurrentWeakHashSet} against a {@link WeakHashSet} wrapped by
+ * {@link Collections#synchronizedSet(Set)}, with three threads looking up elements and one
+ * thread adding and removing elements in the same set.
+ * <p>Run through {@link #main(String[])} from the test classpath, after {@code mvn
+ * test-compile} generated the benchmark harness.
+ *
+ * @author aparx (Vinzent Z.)
+ * @version 2026-10-17 17:35
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+public class WeakSetContentionBenchmark {
+
+  @Param({"64", "4096"})
+  int elementCount;
+
+  /** Strongly held elements, so that none of them is reclaimed during the benchmark */
+  Object[] elements;
+
+  ConcurrentWeakHashSet<Object> concurrentSet;
+
+  Set<Object> synchronizedSet;
+
+  @Setup
+  public void setup() {
+    elements = new Object[elementCount];
+    concurrentSet = new ConcurrentWeakHashSet<>(elementCount);
+    synchronizedSet = Collections.synchronizedSet(new WeakHashSet<>(elementCount));
+    for (int i = 0; i < elementCount; ++i) {
+      elements[i] = new Object();
+      concurrentSet.add(elements[i]);
+      synchronizedSet.add(elements[i]);
+    }
+  }
+
+  private Object randomElement() {
+    return elements[ThreadLocalRandom.current().nextInt(elementCount)];
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(3)
+  public void concurrentContains(Blackhole blackhole) {
+    blackhole.consume(concurrentSet.contains(randomElement()));
+  }
+
+  @Benchmark
+  @Group("concurrent")
+  @GroupThreads(1)
+  public void concurrentUpdate() {
+    Object element = randomElement();
+    if (!concurrentSet.remove(element))
+      concurrentSet.add(element);
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(3)
+  public void synchronizedContains(Blackhole blackhole) {
+    blackhole.consume(synchronizedSet.contains(randomElement()));
+  }
+
+  @Benchmark
+  @Group("synchronized")
+  @GroupThreads(1)
+  public void synchronizedUpdate() {
+    Object element = randomElement();
+    if (!synchronizedSet.remove(element))
+      synchronizedSet.add(element);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(WeakSetContentionBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+
+}